@@ -9,4 +9,5 @@ repositories {
 dependencies {
     // version must be manually kept in sync with the one in root project settings.gradle.kts
     implementation("gradle.plugin.com.github.johnrengelman", "shadow", "7.1.2")
+    implementation("com.google.code.gson", "gson", "2.9.0")
 }
@@ -0,0 +1,88 @@
+import com.google.gson.JsonObject
+import com.google.gson.JsonParser
+import org.gradle.api.DefaultTask
+import org.gradle.api.file.ConfigurableFileCollection
+import org.gradle.api.file.DirectoryProperty
+import org.gradle.api.tasks.InputFiles
+import org.gradle.api.tasks.OutputDirectory
+import org.gradle.api.tasks.PathSensitive
+import org.gradle.api.tasks.PathSensitivity
+import org.gradle.api.tasks.TaskAction
+import java.io.DataOutputStream
+import java.io.File
+
+/**
+ * Compiles json mapping files into the packed format read by ViaBackwards' PackedMappingData.
+ */
+abstract class CompileMappingsTask : DefaultTask() {
+
+    @get:InputFiles
+    @get:PathSensitive(PathSensitivity.RELATIVE)
+    abstract val mappingFiles: ConfigurableFileCollection
+
+    @get:OutputDirectory
+    abstract val outputDirectory: DirectoryProperty
+
+    @TaskAction
+    fun compile() {
+        val output = outputDirectory.get().asFile
+        output.deleteRecursively()
+        output.mkdirs()
+        mappingFiles.files.forEach { file ->
+            val json = file.reader(Charsets.UTF_8).use { JsonParser.parseReader(it).asJsonObject }
+            writePacked(json, File(output, file.nameWithoutExtension + ".vbm"))
+        }
+    }
+
+    private fun writePacked(json: JsonObject, file: File) {
+        val strings = LinkedHashMap<String, Int>()
+        fun intern(string: String): Int = strings.getOrPut(string) { strings.size }
+
+        val sections = json.entrySet().filter { it.value.isJsonObject }.map { (name, value) ->
+            val section = value.asJsonObject
+            val fields = if (section.entrySet().all { it.value.isJsonObject }) {
+                section.entrySet().flatMap { it.value.asJsonObject.keySet() }.distinct()
+            } else {
+                emptyList()
+            }
+
+            val entries = ArrayList<Int>()
+            section.entrySet().forEach { (key, entryValue) ->
+                entries.add(intern(key))
+                if (fields.isEmpty()) {
+                    entries.add(intern(entryValue.asString))
+                } else {
+                    val record = entryValue.asJsonObject
+                    fields.forEach { field -> entries.add(record.get(field)?.let { intern(it.asString) } ?: -1) }
+                }
+            }
+            PackedSection(intern(name), fields.map(::intern), section.size(), entries)
+        }
+
+        DataOutputStream(file.outputStream().buffered()).use { out ->
+            out.writeInt(MAGIC)
+            out.writeInt(strings.size)
+            strings.keys.forEach { string ->
+                val bytes = string.toByteArray(Charsets.UTF_8)
+                require(bytes.size <= 0xFFFF) { "String too long for packed mappings: ${string.take(32)}..." }
+                out.writeShort(bytes.size)
+                out.write(bytes)
+            }
+
+            out.writeInt(sections.size)
+            sections.forEach { section ->
+                out.writeInt(section.name)
+                out.writeInt(section.fields.size)
+                section.fields.forEach(out::writeInt)
+                out.writeInt(section.size)
+                section.entries.forEach(out::writeInt)
+            }
+        }
+    }
+
+    private class PackedSection(val name: Int, val fields: List<Int>, val size: Int, val entries: List<Int>)
+
+    private companion object {
+        const val MAGIC = 0x56424D31 // VBM1
+    }
+}
@@ -7,6 +7,21 @@ blossom {
     replaceToken("\$IMPL_VERSION", "git-ViaBackwards-${project.version}:${rootProject.latestCommitHash()}")
 }
 
+val packedMappingFiles = listOf("mapping-*.json", "legacy-mappings.json", "translation-mappings.json")
+val compileMappings = tasks.register<CompileMappingsTask>("compileMappings") {
+    mappingFiles.from(fileTree("src/main/resources/assets/viabackwards/data") { include(packedMappingFiles) })
+    outputDirectory.set(layout.buildDirectory.dir("generated/mappings/assets/viabackwards/data"))
+}
+
+sourceSets.main {
+    resources.srcDir(files(layout.buildDirectory.dir("generated/mappings")).builtBy(compileMappings))
+}
+
+tasks.processResources {
+    // Only ship the packed versions of the compiled json files
+    exclude(packedMappingFiles.map { "assets/viabackwards/data/$it" })
+}
+
 dependencies {
     compileOnlyApi(libs.viaver)
     compileOnlyApi(libs.netty)
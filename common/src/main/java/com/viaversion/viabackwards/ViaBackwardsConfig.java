@@ -22,6 +22,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -35,7 +36,10 @@ public class ViaBackwardsConfig extends Config implements com.viaversion.viaback
     private boolean alwaysShowOriginalMobName;
     private boolean fix1_13FormattedInventoryTitles;
     private boolean handlePingsAsInvAcknowledgements;
+    private int maxStoredLight1_13;
     private Map<String, String> chatTypeFormats;
+    private boolean lazyLoadMappings;
+    private List<String> preloadedMappingVersions;
 
     public ViaBackwardsConfig(File configFile) {
         super(configFile);
@@ -54,7 +58,15 @@ public class ViaBackwardsConfig extends Config implements com.viaversion.viaback
         fix1_13FormattedInventoryTitles = getBoolean("fix-formatted-inventory-titles", true);
         alwaysShowOriginalMobName = getBoolean("always-show-original-mob-name", true);
         handlePingsAsInvAcknowledgements = getBoolean("handle-pings-as-inv-acknowledgements", false);
+        maxStoredLight1_13 = Math.max(0, getInt("max-stored-light-1_13", 4096));
         chatTypeFormats = get("chat-types-1_19_1", Map.class, new HashMap<String, String>());
+        lazyLoadMappings = getBoolean("lazy-load-mappings", false);
+
+        // Unquoted versions such as 1.13 are read as numbers
+        preloadedMappingVersions = new ArrayList<>();
+        for (Object version : get("preload-mappings", List.class, new ArrayList<>())) {
+            preloadedMappingVersions.add(String.valueOf(version));
+        }
     }
 
     @Override
@@ -87,11 +99,26 @@ public class ViaBackwardsConfig extends Config implements com.viaversion.viaback
         return handlePingsAsInvAcknowledgements || Boolean.getBoolean("com.viaversion.handlePingsAsInvAcknowledgements");
     }
 
+    @Override
+    public int maxStoredLight1_13() {
+        return maxStoredLight1_13;
+    }
+
     @Override
     public @Nullable String chatTypeFormat(final String translationKey) {
         return chatTypeFormats.get(translationKey);
     }
 
+    @Override
+    public boolean lazyLoadMappings() {
+        return lazyLoadMappings;
+    }
+
+    @Override
+    public List<String> preloadedMappingVersions() {
+        return preloadedMappingVersions;
+    }
+
     @Override
     public URL getDefaultConfigURL() {
         return getClass().getClassLoader().getResource("assets/viabackwards/config.yml");
@@ -17,18 +17,27 @@
  */
 package com.viaversion.viabackwards.api;
 
+import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.data.BackwardsMappings;
+import com.viaversion.viabackwards.api.data.DataLoadReport;
 import com.viaversion.viabackwards.api.rewriters.TranslatableRewriter;
 import com.viaversion.viaversion.api.Via;
+import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.protocol.AbstractProtocol;
 import com.viaversion.viaversion.api.protocol.Protocol;
 import com.viaversion.viaversion.api.protocol.packet.ClientboundPacketType;
 import com.viaversion.viaversion.api.protocol.packet.ServerboundPacketType;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 public abstract class BackwardsProtocol<C1 extends ClientboundPacketType, C2 extends ClientboundPacketType, S1 extends ServerboundPacketType, S2 extends ServerboundPacketType>
         extends AbstractProtocol<C1, C2, S1, S2> {
 
+    private Class<? extends Protocol> deferredLoaderDependency;
+    private volatile Runnable deferredLoader;
+
     protected BackwardsProtocol() {
     }
 
@@ -39,9 +48,111 @@ public abstract class BackwardsProtocol<C1 extends ClientboundPacketType, C2 ext
 
     /**
      * Waits for the given protocol to be loaded to then asynchronously execute the runnable for this protocol.
+     * Connections using this protocol are held back until the runnable has completed.
      */
     protected void executeAsyncAfterLoaded(Class<? extends Protocol> protocolClass, Runnable runnable) {
-        Via.getManager().getProtocolManager().addMappingLoaderFuture(getClass(), protocolClass, runnable);
+        if (lazyLoading()) {
+            defer(protocolClass, runnable);
+            return;
+        }
+
+        Via.getManager().getProtocolManager().addMappingLoaderFuture(getClass(), protocolClass, timed(runnable));
+        trackLoaderFuture();
+    }
+
+    /**
+     * Asynchronously executes the runnable for this protocol without waiting for any other protocol.
+     * Connections using this protocol are held back until the runnable has completed.
+     */
+    protected void executeAsync(Runnable runnable) {
+        if (lazyLoading()) {
+            defer(null, runnable);
+            return;
+        }
+
+        Via.getManager().getProtocolManager().addMappingLoaderFuture(getClass(), timed(runnable));
+        trackLoaderFuture();
+    }
+
+    /**
+     * Submits the loader of this protocol to the startup loaders if it has been deferred by lazy loading.
+     * Has no effect if the data has already been loaded or submitted.
+     */
+    public void preloadDeferredData() {
+        Runnable loader;
+        Class<? extends Protocol> dependency;
+        synchronized (this) {
+            loader = deferredLoader;
+            dependency = deferredLoaderDependency;
+            deferredLoader = null;
+        }
+
+        if (loader == null) {
+            return;
+        }
+
+        if (dependency != null) {
+            Via.getManager().getProtocolManager().addMappingLoaderFuture(getClass(), dependency, timed(loader));
+        } else {
+            Via.getManager().getProtocolManager().addMappingLoaderFuture(getClass(), timed(loader));
+        }
+        trackLoaderFuture();
+    }
+
+    @Override
+    public void init(UserConnection connection) {
+        if (deferredLoader != null) {
+            loadDeferredData();
+        }
+    }
+
+    /**
+     * Loads the deferred data on the calling thread, blocking other callers until it is done.
+     */
+    private synchronized void loadDeferredData() {
+        Runnable loader = deferredLoader;
+        if (loader == null) {
+            return;
+        }
+
+        if (deferredLoaderDependency != null) {
+            try {
+                Via.getManager().getProtocolManager().completeMappingDataLoading(deferredLoaderDependency);
+            } catch (Exception e) {
+                throw new RuntimeException("Error waiting for mappings of " + deferredLoaderDependency.getSimpleName(), e);
+            }
+        }
+
+        long start = System.nanoTime();
+        loader.run();
+        deferredLoader = null;
+        ViaBackwards.getPlatform().getLogger().info("Loaded data of " + getClass().getSimpleName() + " on first use in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+    }
+
+    private synchronized void defer(@Nullable Class<? extends Protocol> dependency, Runnable runnable) {
+        if (deferredLoader != null) {
+            throw new IllegalStateException("Data loading of " + getClass().getSimpleName() + " has already been deferred");
+        }
+
+        deferredLoaderDependency = dependency;
+        deferredLoader = runnable;
+    }
+
+    private static boolean lazyLoading() {
+        ViaBackwardsConfig config = ViaBackwards.getConfig();
+        return config != null && config.lazyLoadMappings();
+    }
+
+    private Runnable timed(Runnable runnable) {
+        return () -> DataLoadReport.time(getClass().getSimpleName(), runnable);
+    }
+
+    private void trackLoaderFuture() {
+        CompletableFuture<Void> future = Via.getManager().getProtocolManager().getMappingLoaderFuture(getClass());
+        if (future != null) {
+            DataLoadReport.track(future);
+        }
     }
 
     @Override
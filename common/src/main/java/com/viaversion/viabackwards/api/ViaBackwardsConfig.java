@@ -19,6 +19,8 @@ package com.viaversion.viabackwards.api;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.List;
+
 public interface ViaBackwardsConfig {
 
     /**
@@ -53,5 +55,26 @@ public interface ViaBackwardsConfig {
 
     boolean handlePingsAsInvAcknowledgements();
 
+    /**
+     * Maximum size of light data stored per 1.13 player for chunks not sent yet before the oldest updates are dropped.
+     *
+     * @return maximum size in KiB, or 0 if unlimited
+     */
+    int maxStoredLight1_13();
+
     @Nullable String chatTypeFormat(String translationKey);
+
+    /**
+     * Only loads the mapping data of a protocol once a connection first uses it.
+     *
+     * @return true if enabled
+     */
+    boolean lazyLoadMappings();
+
+    /**
+     * Client versions whose protocols are loaded at startup even if {@link #lazyLoadMappings()} is enabled.
+     *
+     * @return list of version names, e.g. "1.12.2"
+     */
+    List<String> preloadedMappingVersions();
 }
@@ -20,7 +20,7 @@ package com.viaversion.viabackwards.api;
 
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.ViaBackwardsConfig;
-import com.viaversion.viabackwards.api.rewriters.TranslatableRewriter;
+import com.viaversion.viabackwards.api.data.DataLoadReport;
 import com.viaversion.viabackwards.protocol.protocol1_10to1_11.Protocol1_10To1_11;
 import com.viaversion.viabackwards.protocol.protocol1_11_1to1_12.Protocol1_11_1To1_12;
 import com.viaversion.viabackwards.protocol.protocol1_11to1_11_1.Protocol1_11To1_11_1;
@@ -51,10 +51,14 @@ import com.viaversion.viabackwards.protocol.protocol1_19to1_19_1.Protocol1_19To1
 import com.viaversion.viabackwards.protocol.protocol1_9_4to1_10.Protocol1_9_4To1_10;
 import com.viaversion.viaversion.api.Via;
 import com.viaversion.viaversion.api.protocol.ProtocolManager;
+import com.viaversion.viaversion.api.protocol.ProtocolPathEntry;
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import com.viaversion.viaversion.update.Version;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.logging.Logger;
 
 public interface ViaBackwardsPlatform {
@@ -66,6 +70,7 @@ public interface ViaBackwardsPlatform {
      * Initialize ViaBackwards.
      */
     default void init(File dataFolder) {
+        long start = System.nanoTime();
         ViaBackwardsConfig config = new ViaBackwardsConfig(new File(dataFolder, "config.yml"));
         config.reloadConfig();
 
@@ -78,9 +83,6 @@ public interface ViaBackwardsPlatform {
 
         Via.getManager().getSubPlatforms().add(IMPL_VERSION);
 
-        getLogger().info("Loading translations...");
-        TranslatableRewriter.loadTranslatables();
-
         final ProtocolManager protocolManager = Via.getManager().getProtocolManager();
         protocolManager.registerProtocol(new Protocol1_9_4To1_10(), ProtocolVersion.v1_9_3, ProtocolVersion.v1_10);
 
@@ -119,6 +121,53 @@ public interface ViaBackwardsPlatform {
 
         protocolManager.registerProtocol(new Protocol1_18_2To1_19(), ProtocolVersion.v1_18_2, ProtocolVersion.v1_19);
         protocolManager.registerProtocol(new Protocol1_19To1_19_1(), ProtocolVersion.v1_19, ProtocolVersion.v1_19_1);
+
+        if (config.lazyLoadMappings()) {
+            preloadMappings(config.preloadedMappingVersions());
+        }
+
+        DataLoadReport.logWhenDone(getLogger(), start);
+    }
+
+    /**
+     * Loads the deferred mappings of all protocols needed by the given client versions to join newer servers.
+     *
+     * @param versions client version names
+     */
+    default void preloadMappings(List<String> versions) {
+        final ProtocolManager protocolManager = Via.getManager().getProtocolManager();
+        final List<ProtocolVersion> serverVersions = new ArrayList<>(ProtocolVersion.getProtocols());
+        serverVersions.sort(Comparator.comparingInt(ProtocolVersion::getVersion).reversed());
+        for (String versionName : versions) {
+            ProtocolVersion version = ProtocolVersion.getClosest(versionName);
+            if (version == null) {
+                getLogger().warning("Unknown version to preload mappings for: " + versionName);
+                continue;
+            }
+
+            // Take the longest path, going through all protocols up to the newest supported server version
+            List<ProtocolPathEntry> path = null;
+            for (ProtocolVersion serverVersion : serverVersions) {
+                if (serverVersion.getVersion() <= version.getVersion()) {
+                    break;
+                }
+
+                path = protocolManager.getProtocolPath(version.getVersion(), serverVersion.getVersion());
+                if (path != null) {
+                    break;
+                }
+            }
+
+            if (path == null) {
+                continue;
+            }
+
+            for (ProtocolPathEntry entry : path) {
+                if (entry.protocol() instanceof BackwardsProtocol) {
+                    ((BackwardsProtocol<?, ?, ?, ?>) entry.protocol()).preloadDeferredData();
+                }
+            }
+        }
     }
 
     /**
@@ -24,10 +24,12 @@ import com.viaversion.viaversion.api.Via;
 import com.viaversion.viaversion.api.data.MappingDataBase;
 import com.viaversion.viaversion.api.data.Mappings;
 import com.viaversion.viaversion.api.protocol.Protocol;
+import com.viaversion.viaversion.libs.fastutil.ints.Int2IntMap;
 import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectMap;
 import com.viaversion.viaversion.libs.gson.JsonObject;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.logging.Logger;
 
@@ -35,8 +37,11 @@ public class BackwardsMappings extends MappingDataBase {
 
     private final Class<? extends Protocol> vvProtocolClass;
     private Int2ObjectMap<MappedItem> backwardsItemMappings;
+    private MappedItem[] mappedItems;
+    private int[] newItemIds;
     private Map<String, String> backwardsSoundMappings;
     private Map<String, String> entityNames;
+    private PackedMappingData packedDiffMappings;
 
     public BackwardsMappings(String oldVersion, String newVersion, @Nullable Class<? extends Protocol> vvProtocolClass) {
         this(oldVersion, newVersion, vvProtocolClass, false);
@@ -52,22 +57,21 @@ public class BackwardsMappings extends MappingDataBase {
 
     @Override
     protected final void loadExtras(JsonObject oldMappings, JsonObject newMappings, @Nullable JsonObject diffMappings) {
-        if (diffMappings != null) {
-            JsonObject diffItems = diffMappings.getAsJsonObject("items");
-            if (diffItems != null) {
-                backwardsItemMappings = VBMappingDataLoader.loadItemMappings(oldMappings.getAsJsonObject("items"),
-                        newMappings.getAsJsonObject("items"), diffItems, shouldWarnOnMissing("items"));
-            }
+        PackedMappingData.Section diffItems = diffSection("items");
+        if (diffItems != null) {
+            backwardsItemMappings = VBMappingDataLoader.loadItemMappings(oldMappings.getAsJsonObject("items"),
+                    newMappings.getAsJsonObject("items"), diffItems, shouldWarnOnMissing("items"));
+            mappedItems = toArray(backwardsItemMappings);
+        }
 
-            JsonObject diffSounds = diffMappings.getAsJsonObject("sounds");
-            if (diffSounds != null) {
-                backwardsSoundMappings = VBMappingDataLoader.objectToNamespacedMap(diffSounds);
-            }
+        PackedMappingData.Section diffSounds = diffSection("sounds");
+        if (diffSounds != null) {
+            backwardsSoundMappings = VBMappingDataLoader.sectionToNamespacedMap(diffSounds);
+        }
 
-            JsonObject diffEntityNames = diffMappings.getAsJsonObject("entitynames");
-            if (diffEntityNames != null) {
-                entityNames = VBMappingDataLoader.objectToMap(diffEntityNames);
-            }
+        PackedMappingData.Section diffEntityNames = diffSection("entitynames");
+        if (diffEntityNames != null) {
+            entityNames = diffEntityNames.toMap();
         }
 
         // Just re-use ViaVersion's item id map
@@ -76,29 +80,78 @@ public class BackwardsMappings extends MappingDataBase {
         }
 
         loadVBExtras(oldMappings, newMappings);
+        if (itemMappings != null) {
+            newItemIds = toArray(itemMappings);
+        }
+        packedDiffMappings = null;
+    }
+
+    private static MappedItem[] toArray(Int2ObjectMap<MappedItem> mappings) {
+        int maxId = -1;
+        for (Int2ObjectMap.Entry<MappedItem> entry : mappings.int2ObjectEntrySet()) {
+            maxId = Math.max(maxId, entry.getIntKey());
+        }
+
+        MappedItem[] array = new MappedItem[maxId + 1];
+        for (Int2ObjectMap.Entry<MappedItem> entry : mappings.int2ObjectEntrySet()) {
+            if (entry.getIntKey() >= 0) {
+                array[entry.getIntKey()] = entry.getValue();
+            }
+        }
+        return array;
+    }
+
+    private static int[] toArray(Int2IntMap mappings) {
+        int maxId = -1;
+        for (Int2IntMap.Entry entry : mappings.int2IntEntrySet()) {
+            maxId = Math.max(maxId, entry.getIntKey());
+        }
+
+        int[] array = new int[maxId + 1];
+        Arrays.fill(array, -1);
+        for (Int2IntMap.Entry entry : mappings.int2IntEntrySet()) {
+            if (entry.getIntKey() >= 0) {
+                array[entry.getIntKey()] = entry.getIntValue();
+            }
+        }
+        return array;
     }
 
     @Override
     protected @Nullable Mappings loadFromArray(JsonObject oldMappings, JsonObject newMappings, @Nullable JsonObject diffMappings, String key) {
         if (!oldMappings.has(key) || !newMappings.has(key)) return null;
 
-        JsonObject diff = diffMappings != null ? diffMappings.getAsJsonObject(key) : null;
-        return VBMappings.vbBuilder().unmapped(oldMappings.getAsJsonArray(key)).mapped(newMappings.getAsJsonArray(key))
-                .diffMappings(diff).warnOnMissing(shouldWarnOnMissing(key)).build();
+        PackedMappingData.Section diff = diffSection(key);
+        return VBMappings.vbBuilder().diffIdentifiers(diff != null ? diff.toMap() : null)
+                .unmapped(oldMappings.getAsJsonArray(key)).mapped(newMappings.getAsJsonArray(key))
+                .warnOnMissing(shouldWarnOnMissing(key)).build();
     }
 
     @Override
     protected @Nullable Mappings loadFromObject(JsonObject oldMappings, JsonObject newMappings, @Nullable JsonObject diffMappings, String key) {
         if (!oldMappings.has(key) || !newMappings.has(key)) return null;
 
-        JsonObject diff = diffMappings != null ? diffMappings.getAsJsonObject(key) : null;
-        return VBMappings.vbBuilder().unmapped(oldMappings.getAsJsonObject(key)).mapped(newMappings.getAsJsonObject(key))
-                .diffMappings(diff).warnOnMissing(shouldWarnOnMissing(key)).build();
+        PackedMappingData.Section diff = diffSection(key);
+        return VBMappings.vbBuilder().diffIdentifiers(diff != null ? diff.toMap() : null)
+                .unmapped(oldMappings.getAsJsonObject(key)).mapped(newMappings.getAsJsonObject(key))
+                .warnOnMissing(shouldWarnOnMissing(key)).build();
     }
 
     @Override
     protected JsonObject loadDiffFile() {
-        return VBMappingDataLoader.loadFromDataDir("mapping-" + newVersion + "to" + oldVersion + ".json");
+        packedDiffMappings = VBMappingDataLoader.loadPackedFromDataDir("mapping-" + newVersion + "to" + oldVersion);
+        // The diff is read from the packed data instead, the base loader only needs an object without tags
+        return new JsonObject();
+    }
+
+    /**
+     * Returns a section of the packed diff mappings, only available while loading.
+     *
+     * @param key section key
+     * @return diff section if present
+     */
+    protected @Nullable PackedMappingData.Section diffSection(String key) {
+        return packedDiffMappings != null ? packedDiffMappings.section(key) : null;
     }
 
     /**
@@ -122,7 +175,11 @@ public class BackwardsMappings extends MappingDataBase {
     @Override
     public int getNewItemId(int id) {
         // Don't warn on missing here
-        return this.itemMappings.get(id);
+        int[] newItemIds = this.newItemIds;
+        if (newItemIds == null) {
+            return this.itemMappings.get(id);
+        }
+        return id >= 0 && id < newItemIds.length ? newItemIds[id] : -1;
     }
 
     @Override
@@ -138,7 +195,8 @@ public class BackwardsMappings extends MappingDataBase {
     }
 
     public @Nullable MappedItem getMappedItem(int id) {
-        return backwardsItemMappings != null ? backwardsItemMappings.get(id) : null;
+        MappedItem[] mappedItems = this.mappedItems;
+        return mappedItems != null && id >= 0 && id < mappedItems.length ? mappedItems[id] : null;
     }
 
     public @Nullable String getMappedNamedSound(String id) {
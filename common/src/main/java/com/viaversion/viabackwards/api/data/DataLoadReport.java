@@ -0,0 +1,163 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2022 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.api.data;
+
+import com.viaversion.viaversion.api.Via;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Collects load times and approximate heap growth of the data loaded during startup.
+ * <p>
+ * Nested loads are subtracted from their parent, so every dataset only reports its own cost.
+ * Heap values are taken from the whole JVM and are therefore only an estimate while loaders run in parallel.
+ */
+public final class DataLoadReport {
+
+    private static final List<Entry> ENTRIES = new ArrayList<>();
+    private static final List<CompletableFuture<?>> PENDING = new ArrayList<>();
+    private static final ThreadLocal<Frame> CURRENT_FRAME = new ThreadLocal<>();
+    private static volatile boolean reported;
+
+    /**
+     * Runs and times the given loader.
+     *
+     * @param dataset name of the loaded data
+     * @param loader  loader to run on the current thread
+     */
+    public static void time(String dataset, Runnable loader) {
+        Frame parent = CURRENT_FRAME.get();
+        Frame frame = new Frame();
+        CURRENT_FRAME.set(frame);
+
+        long heapBefore = usedHeap();
+        long start = System.nanoTime();
+        try {
+            loader.run();
+        } finally {
+            long nanos = System.nanoTime() - start;
+            long heap = usedHeap() - heapBefore;
+            if (parent != null) {
+                parent.childNanos += nanos;
+                parent.childHeap += heap;
+                CURRENT_FRAME.set(parent);
+            } else {
+                CURRENT_FRAME.remove();
+            }
+
+            // Data loaded lazily after startup is not part of the report
+            if (!reported) {
+                synchronized (ENTRIES) {
+                    ENTRIES.add(new Entry(dataset, nanos - frame.childNanos, heap - frame.childHeap));
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a loader future to wait for before logging the report.
+     *
+     * @param future loader future
+     */
+    public static void track(CompletableFuture<?> future) {
+        synchronized (PENDING) {
+            PENDING.add(future);
+        }
+    }
+
+    /**
+     * Logs the report once all tracked loaders have completed.
+     * Nothing is logged if no data has been loaded during startup, such as with lazily loaded mappings.
+     *
+     * @param logger    logger to log to
+     * @param startTime {@link System#nanoTime()} at the start of loading
+     */
+    public static void logWhenDone(Logger logger, long startTime) {
+        CompletableFuture<?>[] futures;
+        synchronized (PENDING) {
+            futures = PENDING.toArray(new CompletableFuture[0]);
+            PENDING.clear();
+        }
+
+        if (futures.length == 0) {
+            synchronized (ENTRIES) {
+                if (ENTRIES.isEmpty()) {
+                    reported = true;
+                    return;
+                }
+            }
+        }
+
+        CompletableFuture.allOf(futures).whenComplete((result, throwable) -> log(logger, System.nanoTime() - startTime));
+    }
+
+    private static void log(Logger logger, long totalNanos) {
+        List<Entry> entries;
+        synchronized (ENTRIES) {
+            entries = new ArrayList<>(ENTRIES);
+            ENTRIES.clear();
+            reported = true;
+        }
+
+        long loadNanos = 0;
+        for (Entry entry : entries) {
+            loadNanos += entry.nanos;
+        }
+
+        logger.info("Loaded " + entries.size() + " datasets in " + millis(totalNanos) + "ms (" + millis(loadNanos) + "ms of loader time)");
+        if (!Via.getManager().isDebug()) {
+            return;
+        }
+
+        entries.sort(Comparator.comparingLong((Entry entry) -> entry.nanos).reversed());
+        for (Entry entry : entries) {
+            logger.info(" - " + entry.dataset + ": " + millis(entry.nanos) + "ms, ~" + (entry.heap >> 10) + "KiB heap");
+        }
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static final class Frame {
+        private long childNanos;
+        private long childHeap;
+    }
+
+    private static final class Entry {
+        private final String dataset;
+        private final long nanos;
+        private final long heap;
+
+        private Entry(String dataset, long nanos, long heap) {
+            this.dataset = dataset;
+            this.nanos = nanos;
+            this.heap = heap;
+        }
+    }
+}
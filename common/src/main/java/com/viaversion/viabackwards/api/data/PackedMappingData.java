@@ -0,0 +1,261 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2022 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.api.data;
+
+import com.viaversion.viaversion.libs.fastutil.objects.Object2IntMap;
+import com.viaversion.viaversion.libs.fastutil.objects.Object2IntOpenHashMap;
+import com.viaversion.viaversion.libs.fastutil.objects.Object2ObjectOpenHashMap;
+import com.viaversion.viaversion.libs.gson.JsonElement;
+import com.viaversion.viaversion.libs.gson.JsonObject;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mapping data compiled at build time from the json files in the data directory.
+ * <p>
+ * All names are stored once in a shared string table, sections reference them through packed int arrays.
+ * The layout (big endian) is:
+ * <pre>
+ * int magic
+ * int stringCount, then per string: unsigned short byteLength, utf-8 bytes
+ * int sectionCount, then per section:
+ *     int nameIndex
+ *     int fieldCount, int[fieldCount] fieldNameIndices
+ *     int entryCount, int[entryCount * (1 + max(1, fieldCount))] keyIndex followed by value indices (-1 if absent)
+ * </pre>
+ */
+public final class PackedMappingData {
+
+    public static final int MAGIC = 0x5642_4D31; // VBM1
+    public static final String EXTENSION = ".vbm";
+    private final Map<String, Section> sections;
+
+    private PackedMappingData(final Map<String, Section> sections) {
+        this.sections = sections;
+    }
+
+    public static PackedMappingData read(final ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Invalid packed mapping data header");
+            }
+
+            final String[] strings = new String[buffer.getInt()];
+            final byte[] array = buffer.array();
+            for (int i = 0; i < strings.length; i++) {
+                final int length = buffer.getShort() & 0xFFFF;
+                final int position = buffer.position();
+                strings[i] = new String(array, buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+                buffer.position(position + length);
+            }
+
+            final int sectionCount = buffer.getInt();
+            final Map<String, Section> sections = new HashMap<>(sectionCount);
+            for (int i = 0; i < sectionCount; i++) {
+                final String name = strings[buffer.getInt()];
+                final String[] fields = new String[buffer.getInt()];
+                for (int j = 0; j < fields.length; j++) {
+                    fields[j] = strings[buffer.getInt()];
+                }
+
+                final int entryCount = buffer.getInt();
+                final int[] entries = new int[entryCount * stride(fields.length)];
+                final IntBuffer intBuffer = buffer.asIntBuffer();
+                intBuffer.get(entries);
+                buffer.position(buffer.position() + entries.length * Integer.BYTES);
+                sections.put(name, new Section(strings, fields, entries));
+            }
+            return new PackedMappingData(sections);
+        } catch (final BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Truncated or corrupt packed mapping data", e);
+        }
+    }
+
+    /**
+     * Packs a json object of the same shape as the compiled files, used for user provided mapping overrides.
+     *
+     * @param object json object with sections of either primitive or object values
+     * @return packed mapping data
+     */
+    public static PackedMappingData fromJson(final JsonObject object) {
+        final List<String> strings = new ArrayList<>();
+        final Object2IntMap<String> stringIds = new Object2IntOpenHashMap<>();
+        stringIds.defaultReturnValue(-1);
+
+        final Map<String, String[]> sectionFields = new HashMap<>(object.size());
+        final Map<String, int[]> sectionEntries = new HashMap<>(object.size());
+        for (final Map.Entry<String, JsonElement> sectionEntry : object.entrySet()) {
+            if (!sectionEntry.getValue().isJsonObject()) {
+                continue;
+            }
+
+            final JsonObject section = sectionEntry.getValue().getAsJsonObject();
+            final String[] fields = fields(section);
+            final int stride = stride(fields.length);
+            final int[] entries = new int[section.size() * stride];
+            int index = 0;
+            for (final Map.Entry<String, JsonElement> entry : section.entrySet()) {
+                entries[index] = intern(entry.getKey(), strings, stringIds);
+                if (fields.length == 0) {
+                    entries[index + 1] = intern(entry.getValue().getAsString(), strings, stringIds);
+                } else {
+                    final JsonObject value = entry.getValue().getAsJsonObject();
+                    for (int i = 0; i < fields.length; i++) {
+                        final JsonElement fieldValue = value.get(fields[i]);
+                        entries[index + 1 + i] = fieldValue != null ? intern(fieldValue.getAsString(), strings, stringIds) : -1;
+                    }
+                }
+                index += stride;
+            }
+
+            sectionFields.put(sectionEntry.getKey(), fields);
+            sectionEntries.put(sectionEntry.getKey(), entries);
+        }
+
+        final String[] stringTable = strings.toArray(new String[0]);
+        final Map<String, Section> sections = new HashMap<>(sectionEntries.size());
+        for (final Map.Entry<String, int[]> entry : sectionEntries.entrySet()) {
+            sections.put(entry.getKey(), new Section(stringTable, sectionFields.get(entry.getKey()), entry.getValue()));
+        }
+        return new PackedMappingData(sections);
+    }
+
+    private static String[] fields(final JsonObject section) {
+        final Set<String> fields = new LinkedHashSet<>();
+        for (final Map.Entry<String, JsonElement> entry : section.entrySet()) {
+            if (!entry.getValue().isJsonObject()) {
+                return new String[0];
+            }
+            fields.addAll(entry.getValue().getAsJsonObject().keySet());
+        }
+        return fields.toArray(new String[0]);
+    }
+
+    private static int intern(final String string, final List<String> strings, final Object2IntMap<String> stringIds) {
+        int id = stringIds.getInt(string);
+        if (id == -1) {
+            id = strings.size();
+            strings.add(string);
+            stringIds.put(string, id);
+        }
+        return id;
+    }
+
+    private static int stride(final int fieldCount) {
+        return 1 + Math.max(1, fieldCount);
+    }
+
+    public @Nullable Section section(final String name) {
+        return sections.get(name);
+    }
+
+    public Set<String> sectionNames() {
+        return Collections.unmodifiableSet(sections.keySet());
+    }
+
+    /**
+     * A single top level object of the original file, either mapping names to names or names to records.
+     */
+    public static final class Section {
+
+        private final String[] strings;
+        private final String[] fields;
+        private final int[] entries;
+        private final int stride;
+
+        private Section(final String[] strings, final String[] fields, final int[] entries) {
+            this.strings = strings;
+            this.fields = fields;
+            this.entries = entries;
+            this.stride = stride(fields.length);
+        }
+
+        public int size() {
+            return entries.length / stride;
+        }
+
+        public String key(final int index) {
+            return strings[entries[index * stride]];
+        }
+
+        /**
+         * Returns the value of a plain name to name section.
+         *
+         * @param index entry index
+         * @return mapped value
+         */
+        public String value(final int index) {
+            return strings[entries[index * stride + 1]];
+        }
+
+        /**
+         * Returns the value of a record field.
+         *
+         * @param index      entry index
+         * @param fieldIndex field index as given by {@link #fieldIndex(String)}
+         * @return field value, or null if not present for the entry
+         */
+        public @Nullable String value(final int index, final int fieldIndex) {
+            if (fieldIndex == -1) {
+                return null;
+            }
+
+            final int stringIndex = entries[index * stride + 1 + fieldIndex];
+            return stringIndex != -1 ? strings[stringIndex] : null;
+        }
+
+        public int fieldIndex(final String field) {
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i].equals(field)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        public boolean isRecordSection() {
+            return fields.length != 0;
+        }
+
+        /**
+         * Returns a new map of the entries of a plain name to name section.
+         *
+         * @return mutable map of all entries
+         */
+        public Map<String, String> toMap() {
+            final int size = size();
+            final Map<String, String> map = new Object2ObjectOpenHashMap<>(size);
+            for (int i = 0; i < size; i++) {
+                map.put(key(i), value(i));
+            }
+            return map;
+        }
+    }
+}
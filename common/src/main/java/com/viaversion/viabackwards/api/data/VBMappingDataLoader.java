@@ -17,12 +17,14 @@
  */
 package com.viaversion.viabackwards.api.data;
 
+import com.google.common.io.ByteStreams;
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viaversion.api.Via;
 import com.viaversion.viaversion.api.data.MappingDataLoader;
 import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectMap;
 import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectOpenHashMap;
 import com.viaversion.viaversion.libs.fastutil.objects.Object2IntMap;
+import com.viaversion.viaversion.libs.gson.JsonArray;
 import com.viaversion.viaversion.libs.gson.JsonElement;
 import com.viaversion.viaversion.libs.gson.JsonIOException;
 import com.viaversion.viaversion.libs.gson.JsonObject;
@@ -36,6 +38,7 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -59,6 +62,40 @@ public final class VBMappingDataLoader {
         return null;
     }
 
+    /**
+     * Loads the packed version of the given data file, preferring a json file in the platform's directory if present.
+     *
+     * @param name file name without extension
+     * @return packed mapping data, or null if neither a packed nor a json file exists
+     */
+    public static @Nullable PackedMappingData loadPackedFromDataDir(String name) {
+        File file = new File(ViaBackwards.getPlatform().getDataFolder(), name + ".json");
+        if (!file.exists()) return loadPackedData(name);
+
+        JsonObject object = loadFromDataDir(name + ".json");
+        return object != null ? PackedMappingData.fromJson(object) : null;
+    }
+
+    /**
+     * Loads the packed data file compiled at build time, falling back to its json source.
+     *
+     * @param name file name without extension
+     * @return packed mapping data, or null if neither a packed nor a json file exists
+     */
+    public static @Nullable PackedMappingData loadPackedData(String name) {
+        try (InputStream stream = getResource(name + PackedMappingData.EXTENSION)) {
+            if (stream != null) {
+                return PackedMappingData.read(ByteBuffer.wrap(ByteStreams.toByteArray(stream)));
+            }
+        } catch (IOException e) {
+            ViaBackwards.getPlatform().getLogger().warning("Failed to read packed " + name + ", falling back to json");
+            e.printStackTrace();
+        }
+
+        JsonObject object = loadData(name + ".json");
+        return object != null ? PackedMappingData.fromJson(object) : null;
+    }
+
     public static @Nullable InputStream getResource(String name) {
         return VBMappingDataLoader.class.getClassLoader().getResourceAsStream("assets/viabackwards/data/" + name);
     }
@@ -73,45 +110,65 @@ public final class VBMappingDataLoader {
         }
     }
 
-    public static void mapIdentifiers(int[] output, JsonObject oldIdentifiers, JsonObject newIdentifiers, JsonObject diffIdentifiers, boolean warnOnMissing) {
+    /**
+     * @deprecated use {@link #mapIdentifiers(int[], JsonObject, JsonObject, Map, boolean)}
+     */
+    @Deprecated
+    public static void mapIdentifiers(int[] output, JsonObject oldIdentifiers, JsonObject newIdentifiers, @Nullable JsonObject diffIdentifiers, boolean warnOnMissing) {
+        mapIdentifiers(output, oldIdentifiers, newIdentifiers, diffIdentifiers != null ? objectToMap(diffIdentifiers) : null, warnOnMissing);
+    }
+
+    public static void mapIdentifiers(int[] output, JsonArray oldIdentifiers, JsonArray newIdentifiers, @Nullable Map<String, String> diffIdentifiers, boolean warnOnMissing) {
+        Object2IntMap<String> newIdentifierMap = MappingDataLoader.arrayToMap(newIdentifiers);
+        for (int i = 0; i < oldIdentifiers.size(); i++) {
+            int mappedId = mapIdentifier(oldIdentifiers.get(i).getAsString(), newIdentifierMap, diffIdentifiers, warnOnMissing);
+            if (mappedId != -1) {
+                output[i] = mappedId;
+            }
+        }
+    }
+
+    public static void mapIdentifiers(int[] output, JsonObject oldIdentifiers, JsonObject newIdentifiers, @Nullable Map<String, String> diffIdentifiers, boolean warnOnMissing) {
         Object2IntMap<String> newIdentifierMap = MappingDataLoader.indexedObjectToMap(newIdentifiers);
         for (Map.Entry<String, JsonElement> entry : oldIdentifiers.entrySet()) {
-            String key = entry.getValue().getAsString();
-            int mappedId = newIdentifierMap.getInt(key);
-            if (mappedId == -1) {
-                if (diffIdentifiers != null) {
-                    // Search in diff mappings
-                    JsonPrimitive diffValueJson = diffIdentifiers.getAsJsonPrimitive(key);
-                    String diffValue = diffValueJson != null ? diffValueJson.getAsString() : null;
-
-                    int dataIndex;
-                    if (diffValue == null && (dataIndex = key.indexOf('[')) != -1
-                            && (diffValueJson = diffIdentifiers.getAsJsonPrimitive(key.substring(0, dataIndex))) != null) {
-                        // Check for wildcard mappings
-                        diffValue = diffValueJson.getAsString();
-
-                        // Keep original properties if value ends with [
-                        if (diffValue.endsWith("[")) {
-                            diffValue += key.substring(dataIndex + 1);
-                        }
-                    }
-
-                    if (diffValue != null) {
-                        mappedId = newIdentifierMap.getInt(diffValue);
-                    }
-                }
+            int mappedId = mapIdentifier(entry.getValue().getAsString(), newIdentifierMap, diffIdentifiers, warnOnMissing);
+            if (mappedId != -1) {
+                output[Integer.parseInt(entry.getKey())] = mappedId;
+            }
+        }
+    }
+
+    private static int mapIdentifier(String key, Object2IntMap<String> newIdentifierMap, @Nullable Map<String, String> diffIdentifiers, boolean warnOnMissing) {
+        int mappedId = newIdentifierMap.getInt(key);
+        if (mappedId != -1) {
+            return mappedId;
+        }
 
-                if (mappedId == -1) {
-                    // Nothing found :(
-                    if (warnOnMissing && !Via.getConfig().isSuppressConversionWarnings() || Via.getManager().isDebug()) {
-                        ViaBackwards.getPlatform().getLogger().warning("No key for " + entry.getValue() + " :( ");
-                    }
-                    continue;
+        if (diffIdentifiers != null) {
+            // Search in diff mappings
+            String diffValue = diffIdentifiers.get(key);
+            int dataIndex;
+            if (diffValue == null && (dataIndex = key.indexOf('[')) != -1
+                    && (diffValue = diffIdentifiers.get(key.substring(0, dataIndex))) != null) {
+                // Check for wildcard mappings
+                // Keep original properties if value ends with [
+                if (diffValue.endsWith("[")) {
+                    diffValue += key.substring(dataIndex + 1);
                 }
             }
 
-            output[Integer.parseInt(entry.getKey())] = mappedId;
+            if (diffValue != null) {
+                mappedId = newIdentifierMap.getInt(diffValue);
+            }
+        }
+
+        if (mappedId == -1) {
+            // Nothing found :(
+            if (warnOnMissing && !Via.getConfig().isSuppressConversionWarnings() || Via.getManager().isDebug()) {
+                ViaBackwards.getPlatform().getLogger().warning("No key for " + key + " :( ");
+            }
         }
+        return mappedId;
     }
 
     public static Map<String, String> objectToNamespacedMap(JsonObject object) {
@@ -130,6 +187,22 @@ public final class VBMappingDataLoader {
         return mappings;
     }
 
+    public static Map<String, String> sectionToNamespacedMap(PackedMappingData.Section section) {
+        Map<String, String> mappings = new HashMap<>(section.size());
+        for (int i = 0; i < section.size(); i++) {
+            String key = section.key(i);
+            if (key.indexOf(':') == -1) {
+                key = "minecraft:" + key;
+            }
+            String value = section.value(i);
+            if (value.indexOf(':') == -1) {
+                value = "minecraft:" + value;
+            }
+            mappings.put(key, value);
+        }
+        return mappings;
+    }
+
     public static Map<String, String> objectToMap(JsonObject object) {
         Map<String, String> mappings = new HashMap<>(object.size());
         for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
@@ -138,14 +211,25 @@ public final class VBMappingDataLoader {
         return mappings;
     }
 
+    /**
+     * @deprecated use {@link #loadItemMappings(JsonObject, JsonObject, PackedMappingData.Section, boolean)}
+     */
+    @Deprecated
     public static Int2ObjectMap<MappedItem> loadItemMappings(JsonObject oldMapping, JsonObject newMapping, JsonObject diffMapping, boolean warnOnMissing) {
+        JsonObject wrapper = new JsonObject();
+        wrapper.add("items", diffMapping);
+        return loadItemMappings(oldMapping, newMapping, PackedMappingData.fromJson(wrapper).section("items"), warnOnMissing);
+    }
+
+    public static Int2ObjectMap<MappedItem> loadItemMappings(JsonObject oldMapping, JsonObject newMapping, PackedMappingData.Section diffMapping, boolean warnOnMissing) {
         Int2ObjectMap<MappedItem> itemMapping = new Int2ObjectOpenHashMap<>(diffMapping.size(), 0.99F);
         Object2IntMap<String> newIdentifierMap = MappingDataLoader.indexedObjectToMap(newMapping);
         Object2IntMap<String> oldIdentifierMap = MappingDataLoader.indexedObjectToMap(oldMapping);
-        for (Map.Entry<String, JsonElement> entry : diffMapping.entrySet()) {
-            JsonObject object = entry.getValue().getAsJsonObject();
-            String mappedIdName = object.getAsJsonPrimitive("id").getAsString();
-            int mappedId = newIdentifierMap.getInt(mappedIdName);
+        int idField = diffMapping.fieldIndex("id");
+        int nameField = diffMapping.fieldIndex("name");
+        for (int i = 0; i < diffMapping.size(); i++) {
+            String mappedIdName = diffMapping.value(i, idField);
+            int mappedId = mappedIdName != null ? newIdentifierMap.getInt(mappedIdName) : -1;
             if (mappedId == -1) {
                 if (!Via.getConfig().isSuppressConversionWarnings() || Via.getManager().isDebug()) {
                     ViaBackwards.getPlatform().getLogger().warning("No key for " + mappedIdName + " :( ");
@@ -153,7 +237,7 @@ public final class VBMappingDataLoader {
                 continue;
             }
 
-            int oldId = oldIdentifierMap.getInt(entry.getKey());
+            int oldId = oldIdentifierMap.getInt(diffMapping.key(i));
             if (oldId == -1) {
                 if (!Via.getConfig().isSuppressConversionWarnings() || Via.getManager().isDebug()) {
                     ViaBackwards.getPlatform().getLogger().warning("No old entry for " + mappedIdName + " :( ");
@@ -161,7 +245,7 @@ public final class VBMappingDataLoader {
                 continue;
             }
 
-            String name = object.getAsJsonPrimitive("name").getAsString();
+            String name = diffMapping.value(i, nameField);
             itemMapping.put(oldId, new MappedItem(mappedId, name));
         }
 
@@ -18,10 +18,11 @@
 package com.viaversion.viabackwards.api.data;
 
 import com.viaversion.viaversion.api.data.IntArrayMappings;
-import com.viaversion.viaversion.api.data.MappingDataLoader;
 import com.viaversion.viaversion.api.data.Mappings;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Arrays;
+import java.util.Map;
 
 public final class VBMappings extends IntArrayMappings {
 
@@ -29,34 +30,48 @@ public final class VBMappings extends IntArrayMappings {
         super(oldToNew, mappedIds);
     }
 
-    public static Mappings.Builder<VBMappings> vbBuilder() {
+    public static Builder vbBuilder() {
         return new Builder(VBMappings::new);
     }
 
     public static final class Builder extends Mappings.Builder<VBMappings> {
 
+        private Map<String, String> diffIdentifiers;
+
         private Builder(final MappingsSupplier<VBMappings> supplier) {
             super(supplier);
         }
 
+        /**
+         * Sets the diff mappings as an already resolved name map, taking precedence over {@link #diffMappings(com.viaversion.viaversion.libs.gson.JsonObject)}.
+         *
+         * @param diffIdentifiers map of unmapped to mapped identifiers
+         * @return this builder
+         */
+        public Builder diffIdentifiers(@Nullable final Map<String, String> diffIdentifiers) {
+            this.diffIdentifiers = diffIdentifiers;
+            return this;
+        }
+
         @Override
         public VBMappings build() {
             final int size = this.size != -1 ? this.size : size(unmapped);
             final int mappedSize = this.mappedSize != -1 ? this.mappedSize : size(mapped);
             final int[] mappings = new int[size];
             Arrays.fill(mappings, -1);
+            final Map<String, String> diff = diffIdentifiers != null ? diffIdentifiers
+                    : diffMappings != null ? VBMappingDataLoader.objectToMap(diffMappings) : null;
             // Do conversion if one is an array and the other an object, otherwise directly map
             if (unmapped.isJsonArray()) {
                 if (mapped.isJsonObject()) {
-                    VBMappingDataLoader.mapIdentifiers(mappings, toJsonObject(unmapped.getAsJsonArray()), mapped.getAsJsonObject(), diffMappings, warnOnMissing);
+                    VBMappingDataLoader.mapIdentifiers(mappings, toJsonObject(unmapped.getAsJsonArray()), mapped.getAsJsonObject(), diff, warnOnMissing);
                 } else {
-                    // Use the normal loader
-                    MappingDataLoader.mapIdentifiers(mappings, unmapped.getAsJsonArray(), mapped.getAsJsonArray(), diffMappings, warnOnMissing);
+                    VBMappingDataLoader.mapIdentifiers(mappings, unmapped.getAsJsonArray(), mapped.getAsJsonArray(), diff, warnOnMissing);
                 }
             } else if (mapped.isJsonArray()) {
-                VBMappingDataLoader.mapIdentifiers(mappings, unmapped.getAsJsonObject(), toJsonObject(mapped.getAsJsonArray()), diffMappings, warnOnMissing);
+                VBMappingDataLoader.mapIdentifiers(mappings, unmapped.getAsJsonObject(), toJsonObject(mapped.getAsJsonArray()), diff, warnOnMissing);
             } else {
-                VBMappingDataLoader.mapIdentifiers(mappings, unmapped.getAsJsonObject(), mapped.getAsJsonObject(), diffMappings, warnOnMissing);
+                VBMappingDataLoader.mapIdentifiers(mappings, unmapped.getAsJsonObject(), mapped.getAsJsonObject(), diff, warnOnMissing);
             }
             return supplier.supply(mappings, mappedSize);
         }
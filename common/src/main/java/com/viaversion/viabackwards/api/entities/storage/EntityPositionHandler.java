@@ -17,6 +17,7 @@
  */
 package com.viaversion.viabackwards.api.entities.storage;
 
+import com.google.common.base.Preconditions;
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.rewriters.EntityRewriterBase;
 import com.viaversion.viaversion.api.Via;
@@ -24,6 +25,7 @@ import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.data.entity.StoredEntityData;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
 import com.viaversion.viaversion.api.type.Type;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.function.Supplier;
 
@@ -31,13 +33,26 @@ public class EntityPositionHandler {
 
     public static final double RELATIVE_MOVE_FACTOR = 32 * 128;
     private final EntityRewriterBase entityRewriter;
+    private final Class<? extends EntityPositionTable> tableClass;
     private final Class<? extends EntityPositionStorage> storageClass;
     private final Supplier<? extends EntityPositionStorage> storageSupplier;
     private boolean warnedForMissingEntity;
 
+    public EntityPositionHandler(EntityRewriterBase entityRewriter, Class<? extends EntityPositionTable> tableClass) {
+        this.entityRewriter = entityRewriter;
+        this.tableClass = tableClass;
+        this.storageClass = null;
+        this.storageSupplier = null;
+    }
+
+    /**
+     * @deprecated use {@link #EntityPositionHandler(EntityRewriterBase, Class)} to store positions in a per connection table
+     */
+    @Deprecated
     public EntityPositionHandler(EntityRewriterBase entityRewriter,
                                  Class<? extends EntityPositionStorage> storageClass, Supplier<? extends EntityPositionStorage> storageSupplier) {
         this.entityRewriter = entityRewriter;
+        this.tableClass = null;
         this.storageClass = storageClass;
         this.storageSupplier = storageSupplier;
     }
@@ -49,17 +64,28 @@ public class EntityPositionHandler {
 
     public void cacheEntityPosition(PacketWrapper wrapper, double x, double y, double z, boolean create, boolean relative) throws Exception {
         int entityId = wrapper.get(Type.VAR_INT, 0);
-        StoredEntityData storedEntity = entityRewriter.tracker(wrapper.user()).entityData(entityId);
-        if (storedEntity == null) {
-            if (Via.getManager().isDebug()) { // There is too many plugins violating this out there, and reading seems to be hard! :>
-                ViaBackwards.getPlatform().getLogger().warning("Stored entity with id " + entityId + " missing at position: " + x + " - " + y + " - " + z + " in " + storageClass.getSimpleName());
-                if (entityId == -1 && x == 0 && y == 0 && z == 0) {
-                    ViaBackwards.getPlatform().getLogger().warning("DO NOT REPORT THIS TO VIA, THIS IS A PLUGIN ISSUE");
-                } else if (!warnedForMissingEntity) {
-                    warnedForMissingEntity = true;
-                    ViaBackwards.getPlatform().getLogger().warning("This is very likely caused by a plugin sending a teleport packet for an entity outside of the player's range.");
-                }
+        if (tableClass == null) {
+            cacheStoredEntityPosition(wrapper.user(), entityId, x, y, z, create, relative);
+            return;
+        }
+
+        EntityPositionTable table = positions(wrapper.user());
+        if (create) {
+            // Only keep positions of entities the tracker knows about, removals go through the tracker as well
+            if (entityRewriter.tracker(wrapper.user()).entityData(entityId) == null) {
+                warnMissingEntity(entityId, x, y, z, tableClass);
+                return;
             }
+            table.add(entityId, x, y, z);
+        } else if (!table.setCoordinates(entityId, x, y, z, relative)) {
+            warnMissingEntity(entityId, x, y, z, tableClass);
+        }
+    }
+
+    private void cacheStoredEntityPosition(UserConnection user, int entityId, double x, double y, double z, boolean create, boolean relative) {
+        StoredEntityData storedEntity = entityRewriter.tracker(user).entityData(entityId);
+        if (storedEntity == null) {
+            warnMissingEntity(entityId, x, y, z, storageClass);
             return;
         }
 
@@ -78,11 +104,35 @@ public class EntityPositionHandler {
         positionStorage.setCoordinates(x, y, z, relative);
     }
 
-    public EntityPositionStorage getStorage(UserConnection user, int entityId) {
+    private void warnMissingEntity(int entityId, double x, double y, double z, Class<?> storageClass) {
+        if (!Via.getManager().isDebug()) {
+            return;
+        }
+
+        // There is too many plugins violating this out there, and reading seems to be hard! :>
+        ViaBackwards.getPlatform().getLogger().warning("Stored entity with id " + entityId + " missing at position: " + x + " - " + y + " - " + z + " in " + storageClass.getSimpleName());
+        if (entityId == -1 && x == 0 && y == 0 && z == 0) {
+            ViaBackwards.getPlatform().getLogger().warning("DO NOT REPORT THIS TO VIA, THIS IS A PLUGIN ISSUE");
+        } else if (!warnedForMissingEntity) {
+            warnedForMissingEntity = true;
+            ViaBackwards.getPlatform().getLogger().warning("This is very likely caused by a plugin sending a teleport packet for an entity outside of the player's range.");
+        }
+    }
+
+    public EntityPositionTable positions(UserConnection user) {
+        Preconditions.checkState(tableClass != null, "Positions are stored per entity, use getStorage");
+        return user.get(tableClass);
+    }
+
+    /**
+     * @deprecated only works for handlers created with a storage class, use {@link #positions(UserConnection)}
+     */
+    @Deprecated
+    public @Nullable EntityPositionStorage getStorage(UserConnection user, int entityId) {
         StoredEntityData storedEntity = entityRewriter.tracker(user).entityData(entityId);
         EntityPositionStorage entityStorage;
         if (storedEntity == null || (entityStorage = storedEntity.get(EntityPositionStorage.class)) == null) {
-            ViaBackwards.getPlatform().getLogger().warning("Untracked entity with id " + entityId + " in " + storageClass.getSimpleName());
+            ViaBackwards.getPlatform().getLogger().warning("Untracked entity with id " + entityId + " in " + (storageClass != null ? storageClass : tableClass).getSimpleName());
             return null;
         }
         return entityStorage;
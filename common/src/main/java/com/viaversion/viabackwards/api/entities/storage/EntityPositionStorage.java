@@ -17,6 +17,10 @@
  */
 package com.viaversion.viabackwards.api.entities.storage;
 
+/**
+ * @deprecated positions are stored per connection in an {@link EntityPositionTable}
+ */
+@Deprecated
 public abstract class EntityPositionStorage {
     private double x;
     private double y;
@@ -0,0 +1,135 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2022 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.api.entities.storage;
+
+import com.viaversion.viaversion.api.connection.StorableObject;
+import com.viaversion.viaversion.libs.fastutil.ints.Int2IntMap;
+import com.viaversion.viaversion.libs.fastutil.ints.Int2IntOpenHashMap;
+import com.viaversion.viaversion.libs.fastutil.ints.IntArrayList;
+
+import java.util.Arrays;
+
+/**
+ * Positions of all tracked entities of a connection, stored in parallel coordinate arrays indexed through an entity id map.
+ */
+public abstract class EntityPositionTable implements StorableObject {
+    private static final int INITIAL_CAPACITY = 64;
+    private final Int2IntMap indices = new Int2IntOpenHashMap();
+    private final IntArrayList freeIndices = new IntArrayList();
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] z = new double[INITIAL_CAPACITY];
+    private int nextIndex;
+
+    protected EntityPositionTable() {
+        indices.defaultReturnValue(-1);
+    }
+
+    /**
+     * Adds an entity or replaces its position if already present.
+     *
+     * @param entityId entity id
+     * @param x        x coordinate
+     * @param y        y coordinate
+     * @param z        z coordinate
+     */
+    public void add(int entityId, double x, double y, double z) {
+        int index = indices.get(entityId);
+        if (index == -1) {
+            index = freeIndices.isEmpty() ? nextIndex++ : freeIndices.popInt();
+            if (index == this.x.length) {
+                int capacity = index << 1;
+                this.x = Arrays.copyOf(this.x, capacity);
+                this.y = Arrays.copyOf(this.y, capacity);
+                this.z = Arrays.copyOf(this.z, capacity);
+            }
+            indices.put(entityId, index);
+        }
+
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+    }
+
+    /**
+     * Sets or moves the position of an already present entity.
+     *
+     * @param entityId entity id
+     * @param x        x coordinate or delta
+     * @param y        y coordinate or delta
+     * @param z        z coordinate or delta
+     * @param relative whether the coordinates are added to the current position
+     * @return false if the entity is not present
+     */
+    public boolean setCoordinates(int entityId, double x, double y, double z, boolean relative) {
+        int index = indices.get(entityId);
+        if (index == -1) {
+            return false;
+        }
+
+        if (relative) {
+            this.x[index] += x;
+            this.y[index] += y;
+            this.z[index] += z;
+        } else {
+            this.x[index] = x;
+            this.y[index] = y;
+            this.z[index] = z;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the entity's coordinates, to be used with {@link #x(int)}, {@link #y(int)} and {@link #z(int)}.
+     *
+     * @param entityId entity id
+     * @return index of the entity, or -1 if not present
+     */
+    public int index(int entityId) {
+        return indices.get(entityId);
+    }
+
+    public double x(int index) {
+        return x[index];
+    }
+
+    public double y(int index) {
+        return y[index];
+    }
+
+    public double z(int index) {
+        return z[index];
+    }
+
+    public void remove(int entityId) {
+        int index = indices.remove(entityId);
+        if (index != -1) {
+            freeIndices.add(index);
+        }
+    }
+
+    public void clear() {
+        indices.clear();
+        freeIndices.clear();
+        nextIndex = 0;
+    }
+
+    public int size() {
+        return indices.size();
+    }
+}
@@ -43,16 +43,16 @@ public abstract class ItemRewriter<T extends BackwardsProtocol> extends ItemRewr
         if (item == null) return null;
 
         CompoundTag display = item.tag() != null ? item.tag().get("display") : null;
-        if (protocol.getTranslatableRewriter() != null && display != null) {
-            // Handle name and lore components
+        TranslatableRewriter translatableRewriter = protocol.getTranslatableRewriter();
+        if (translatableRewriter != null && display != null) {
+            // Handle name and lore components, only parsing them if they may contain something to rewrite
             StringTag name = display.get("Name");
-            if (name != null) {
-                String newValue = protocol.getTranslatableRewriter().processText(name.getValue()).toString();
+            if (name != null && translatableRewriter.mayNeedProcessing(name.getValue())) {
+                String newValue = translatableRewriter.processText(name.getValue()).toString();
                 if (!newValue.equals(name.getValue())) {
                     saveStringTag(display, name, "Name");
+                    name.setValue(newValue);
                 }
-
-                name.setValue(newValue);
             }
 
             ListTag lore = display.get("Lore");
@@ -62,8 +62,12 @@ public abstract class ItemRewriter<T extends BackwardsProtocol> extends ItemRewr
                     if (!(loreEntryTag instanceof StringTag)) continue;
 
                     StringTag loreEntry = (StringTag) loreEntryTag;
-                    String newValue = protocol.getTranslatableRewriter().processText(loreEntry.getValue()).toString();
-                    if (!changed && !newValue.equals(loreEntry.getValue())) {
+                    if (!translatableRewriter.mayNeedProcessing(loreEntry.getValue())) continue;
+
+                    String newValue = translatableRewriter.processText(loreEntry.getValue()).toString();
+                    if (newValue.equals(loreEntry.getValue())) continue;
+
+                    if (!changed) {
                         // Backup original lore before doing any modifications
                         changed = true;
                         saveListTag(display, lore, "Lore");
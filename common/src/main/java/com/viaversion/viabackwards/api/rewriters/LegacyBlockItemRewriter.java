@@ -19,18 +19,22 @@
 package com.viaversion.viabackwards.api.rewriters;
 
 import com.viaversion.viabackwards.api.BackwardsProtocol;
+import com.viaversion.viabackwards.api.data.DataLoadReport;
 import com.viaversion.viabackwards.api.data.MappedLegacyBlockItem;
+import com.viaversion.viabackwards.api.data.PackedMappingData;
 import com.viaversion.viabackwards.api.data.VBMappingDataLoader;
 import com.viaversion.viabackwards.protocol.protocol1_11_1to1_12.data.BlockColors;
 import com.viaversion.viabackwards.utils.Block;
+import com.viaversion.viabackwards.utils.ChunkSectionScanner;
 import com.viaversion.viaversion.api.minecraft.chunks.Chunk;
 import com.viaversion.viaversion.api.minecraft.chunks.ChunkSection;
+import com.viaversion.viaversion.api.minecraft.chunks.DataPalette;
+import com.viaversion.viaversion.api.minecraft.chunks.PaletteType;
 import com.viaversion.viaversion.api.minecraft.item.Item;
 import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectMap;
 import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectOpenHashMap;
-import com.viaversion.viaversion.libs.gson.JsonElement;
-import com.viaversion.viaversion.libs.gson.JsonObject;
-import com.viaversion.viaversion.libs.gson.JsonPrimitive;
+import com.viaversion.viaversion.libs.fastutil.ints.IntOpenHashSet;
+import com.viaversion.viaversion.libs.fastutil.ints.IntSet;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.ByteTag;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.CompoundTag;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.IntTag;
@@ -40,62 +44,112 @@ import com.viaversion.viaversion.libs.opennbt.tag.builtin.Tag;
 import com.viaversion.viaversion.protocols.protocol1_13to1_12_2.ChatRewriter;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.BitSet;
 
 public abstract class LegacyBlockItemRewriter<T extends BackwardsProtocol> extends ItemRewriterBase<T> {
 
-    private static final Map<String, Int2ObjectMap<MappedLegacyBlockItem>> LEGACY_MAPPINGS = new HashMap<>();
-    protected final Int2ObjectMap<MappedLegacyBlockItem> replacementData;
-
-    static {
-        JsonObject jsonObject = VBMappingDataLoader.loadFromDataDir("legacy-mappings.json");
-        for (Map.Entry<String, JsonElement> entry : jsonObject.entrySet()) {
-            Int2ObjectMap<MappedLegacyBlockItem> mappings = new Int2ObjectOpenHashMap<>(8);
-            LEGACY_MAPPINGS.put(entry.getKey(), mappings);
-            for (Map.Entry<String, JsonElement> dataEntry : entry.getValue().getAsJsonObject().entrySet()) {
-                JsonObject object = dataEntry.getValue().getAsJsonObject();
-                int id = object.getAsJsonPrimitive("id").getAsInt();
-                JsonPrimitive jsonData = object.getAsJsonPrimitive("data");
-                short data = jsonData != null ? jsonData.getAsShort() : 0;
-                String name = object.getAsJsonPrimitive("name").getAsString();
-                JsonPrimitive blockField = object.getAsJsonPrimitive("block");
-                boolean block = blockField != null && blockField.getAsBoolean();
-
-                if (dataEntry.getKey().indexOf('-') != -1) {
-                    // Range of ids
-                    String[] split = dataEntry.getKey().split("-", 2);
-                    int from = Integer.parseInt(split[0]);
-                    int to = Integer.parseInt(split[1]);
-
-                    // Special block color handling
-                    if (name.contains("%color%")) {
-                        for (int i = from; i <= to; i++) {
-                            mappings.put(i, new MappedLegacyBlockItem(id, data, name.replace("%color%", BlockColors.get(i - from)), block));
-                        }
-                    } else {
-                        MappedLegacyBlockItem mappedBlockItem = new MappedLegacyBlockItem(id, data, name, block);
-                        for (int i = from; i <= to; i++) {
-                            mappings.put(i, mappedBlockItem);
-                        }
+    private static PackedMappingData legacyMappings;
+    protected final Int2ObjectMap<MappedLegacyBlockItem> replacementData = new Int2ObjectOpenHashMap<>(8);
+    // Filled from the replacement data once it is loaded
+    private final BitSet blockEntityBlocks = new BitSet();
+    private MappedLegacyBlockItem[] replacements = new MappedLegacyBlockItem[0];
+    private final String version;
+
+    protected LegacyBlockItemRewriter(T protocol) {
+        super(protocol, false);
+        version = protocol.getClass().getSimpleName().split("To")[1].replace("_", ".");
+    }
+
+    /**
+     * Loads the legacy block and item replacements of this rewriter's version.
+     * Has to be called from the protocol's async loader, after the rewriter has been registered.
+     */
+    public void loadReplacementData() {
+        DataLoadReport.time("legacy mappings " + version, () -> {
+            PackedMappingData.Section section = legacyMappings().section(version);
+            if (section != null) {
+                loadReplacementData(section);
+            }
+        });
+
+        // Dense lookup by legacy id, so that ids without replacement are a single array access
+        int maxId = -1;
+        for (Int2ObjectMap.Entry<MappedLegacyBlockItem> entry : replacementData.int2ObjectEntrySet()) {
+            maxId = Math.max(maxId, entry.getIntKey());
+        }
+
+        MappedLegacyBlockItem[] replacements = new MappedLegacyBlockItem[maxId + 1];
+        for (Int2ObjectMap.Entry<MappedLegacyBlockItem> entry : replacementData.int2ObjectEntrySet()) {
+            if (entry.getIntKey() < 0) continue;
+
+            replacements[entry.getIntKey()] = entry.getValue();
+            if (entry.getValue().hasBlockEntityHandler()) {
+                blockEntityBlocks.set(entry.getIntKey());
+            }
+        }
+        this.replacements = replacements;
+    }
+
+    protected @Nullable MappedLegacyBlockItem replacement(int id) {
+        return id >= 0 && id < replacements.length ? replacements[id] : null;
+    }
+
+    private void loadReplacementData(PackedMappingData.Section section) {
+        int idField = section.fieldIndex("id");
+        int dataField = section.fieldIndex("data");
+        int nameField = section.fieldIndex("name");
+        int blockField = section.fieldIndex("block");
+        for (int i = 0; i < section.size(); i++) {
+            int id = Integer.parseInt(section.value(i, idField));
+            String dataValue = section.value(i, dataField);
+            short data = dataValue != null ? Short.parseShort(dataValue) : 0;
+            String name = section.value(i, nameField);
+            boolean block = Boolean.parseBoolean(section.value(i, blockField));
+
+            String key = section.key(i);
+            if (key.indexOf('-') != -1) {
+                // Range of ids
+                String[] split = key.split("-", 2);
+                int from = Integer.parseInt(split[0]);
+                int to = Integer.parseInt(split[1]);
+
+                // Special block color handling
+                if (name.contains("%color%")) {
+                    for (int j = from; j <= to; j++) {
+                        putReplacement(j, new MappedLegacyBlockItem(id, data, name.replace("%color%", BlockColors.get(j - from)), block));
                     }
                 } else {
-                    mappings.put(Integer.parseInt(dataEntry.getKey()), new MappedLegacyBlockItem(id, data, name, block));
+                    MappedLegacyBlockItem mappedBlockItem = new MappedLegacyBlockItem(id, data, name, block);
+                    for (int j = from; j <= to; j++) {
+                        putReplacement(j, mappedBlockItem);
+                    }
                 }
+            } else {
+                putReplacement(Integer.parseInt(key), new MappedLegacyBlockItem(id, data, name, block));
             }
         }
     }
 
-    protected LegacyBlockItemRewriter(T protocol) {
-        super(protocol, false);
-        replacementData = LEGACY_MAPPINGS.get(protocol.getClass().getSimpleName().split("To")[1].replace("_", "."));
+    private void putReplacement(int id, MappedLegacyBlockItem item) {
+        // Keep block entity handlers added in registerRewrites
+        MappedLegacyBlockItem previous = replacementData.put(id, item);
+        if (previous != null && previous.hasBlockEntityHandler() && !item.hasBlockEntityHandler()) {
+            item.setBlockEntityHandler(previous.getBlockEntityHandler());
+        }
+    }
+
+    private static synchronized PackedMappingData legacyMappings() {
+        if (legacyMappings == null) {
+            legacyMappings = VBMappingDataLoader.loadPackedFromDataDir("legacy-mappings");
+        }
+        return legacyMappings;
     }
 
     @Override
     public @Nullable Item handleItemToClient(@Nullable Item item) {
         if (item == null) return null;
 
-        MappedLegacyBlockItem data = replacementData.get(item.identifier());
+        MappedLegacyBlockItem data = replacement(item.identifier());
         if (data == null) {
             // Just rewrite the id
             return super.handleItemToClient(item);
@@ -145,7 +199,7 @@ public abstract class LegacyBlockItemRewriter<T extends BackwardsProtocol> exten
     }
 
     public @Nullable Block handleBlock(int blockId, int data) {
-        MappedLegacyBlockItem settings = replacementData.get(blockId);
+        MappedLegacyBlockItem settings = replacement(blockId);
         if (settings == null || !settings.isBlock()) return null;
 
         Block block = settings.getBlock();
@@ -156,9 +210,9 @@ public abstract class LegacyBlockItemRewriter<T extends BackwardsProtocol> exten
         return block;
     }
 
-    protected void handleChunk(Chunk chunk) {
+    protected void handleChunk(Chunk chunk) throws Exception {
         // Map Block Entities
-        Map<Pos, CompoundTag> tags = new HashMap<>();
+        IntSet blockEntityPositions = null;
         for (CompoundTag tag : chunk.getBlockEntities()) {
             Tag xTag;
             Tag yTag;
@@ -167,25 +221,27 @@ public abstract class LegacyBlockItemRewriter<T extends BackwardsProtocol> exten
                 continue;
             }
 
-            Pos pos = new Pos(
-                    ((NumberTag) xTag).asInt() & 0xF,
-                    ((NumberTag) yTag).asInt(),
-                    ((NumberTag) zTag).asInt() & 0xF);
-            tags.put(pos, tag);
+            int x = ((NumberTag) xTag).asInt() & 0xF;
+            int y = ((NumberTag) yTag).asInt();
+            int z = ((NumberTag) zTag).asInt() & 0xF;
 
             // Handle given Block Entities
-            if (pos.getY() < 0 || pos.getY() > 255) continue; // 1.17
+            if (y < 0 || y > 255) continue; // 1.17
+
+            if (blockEntityPositions == null) {
+                blockEntityPositions = new IntOpenHashSet();
+            }
+            blockEntityPositions.add(packedPosition(x, y, z));
 
-            ChunkSection section = chunk.getSections()[pos.getY() >> 4];
+            ChunkSection section = chunk.getSections()[y >> 4];
             if (section == null) continue;
 
-            int block = section.getFlatBlock(pos.getX(), pos.getY() & 0xF, pos.getZ());
+            int block = section.getFlatBlock(x, y & 0xF, z);
             int btype = block >> 4;
+            if (!blockEntityBlocks.get(btype)) continue;
 
-            MappedLegacyBlockItem settings = replacementData.get(btype);
-            if (settings != null && settings.hasBlockEntityHandler()) {
-                settings.getBlockEntityHandler().handleOrNewCompoundTag(block, tag);
-            }
+            MappedLegacyBlockItem settings = replacement(btype);
+            settings.getBlockEntityHandler().handleOrNewCompoundTag(block, tag);
         }
 
         for (int i = 0; i < chunk.getSections().length; i++) {
@@ -195,56 +251,45 @@ public abstract class LegacyBlockItemRewriter<T extends BackwardsProtocol> exten
             boolean hasBlockEntityHandler = false;
 
             // Map blocks
-            for (int j = 0; j < section.getPaletteSize(); j++) {
-                int block = section.getPaletteEntry(j);
+            DataPalette palette = section.palette(PaletteType.BLOCKS);
+            for (int j = 0; j < palette.size(); j++) {
+                int block = palette.idByIndex(j);
                 int btype = block >> 4;
-                int meta = block & 0xF;
 
-                Block b = handleBlock(btype, meta);
-                if (b != null) {
-                    section.setPaletteEntry(j, (b.getId() << 4) | (b.getData() & 0xF));
+                if (blockEntityBlocks.get(btype)) {
+                    hasBlockEntityHandler = true;
                 }
 
-                // We already know that is has a handler
-                if (hasBlockEntityHandler) continue;
-
-                MappedLegacyBlockItem settings = replacementData.get(btype);
-                if (settings != null && settings.hasBlockEntityHandler()) {
-                    hasBlockEntityHandler = true;
+                Block b = handleBlock(btype, block & 0xF);
+                if (b != null) {
+                    palette.setIdByIndex(j, (b.getId() << 4) | (b.getData() & 0xF));
                 }
             }
 
             if (!hasBlockEntityHandler) continue;
 
             // We need to handle a Block Entity :(
-            for (int x = 0; x < 16; x++) {
-                for (int y = 0; y < 16; y++) {
-                    for (int z = 0; z < 16; z++) {
-                        int block = section.getFlatBlock(x, y, z);
-                        int btype = block >> 4;
-                        int meta = block & 15;
-
-                        MappedLegacyBlockItem settings = replacementData.get(btype);
-                        if (settings == null || !settings.hasBlockEntityHandler()) continue;
-
-                        Pos pos = new Pos(x, (y + (i << 4)), z);
-
-                        // Already handled above
-                        if (tags.containsKey(pos)) continue;
-
-                        CompoundTag tag = new CompoundTag();
-                        tag.put("x", new IntTag(x + (chunk.getX() << 4)));
-                        tag.put("y", new IntTag(y + (i << 4)));
-                        tag.put("z", new IntTag(z + (chunk.getZ() << 4)));
-
-                        settings.getBlockEntityHandler().handleOrNewCompoundTag(block, tag);
-                        chunk.getBlockEntities().add(tag);
-                    }
-                }
-            }
+            int sectionY = i << 4;
+            IntSet handledPositions = blockEntityPositions;
+            ChunkSectionScanner.forEachMatching(palette, block -> blockEntityBlocks.get(block >> 4), (x, y, z, block) -> {
+                // Already handled above
+                if (handledPositions != null && handledPositions.contains(packedPosition(x, y + sectionY, z))) return;
+
+                CompoundTag tag = new CompoundTag();
+                tag.put("x", new IntTag(x + (chunk.getX() << 4)));
+                tag.put("y", new IntTag(y + sectionY));
+                tag.put("z", new IntTag(z + (chunk.getZ() << 4)));
+
+                replacement(block >> 4).getBlockEntityHandler().handleOrNewCompoundTag(block, tag);
+                chunk.getBlockEntities().add(tag);
+            });
         }
     }
 
+    private static int packedPosition(int x, int y, int z) {
+        return y << 8 | z << 4 | x;
+    }
+
     protected CompoundTag getNamedTag(String text) {
         CompoundTag tag = new CompoundTag();
         tag.put("display", new CompoundTag());
@@ -252,52 +297,4 @@ public abstract class LegacyBlockItemRewriter<T extends BackwardsProtocol> exten
         ((CompoundTag) tag.get("display")).put("Name", new StringTag(jsonNameFormat ? ChatRewriter.legacyTextToJsonString(text) : text));
         return tag;
     }
-
-    private static final class Pos {
-
-        private final int x;
-        private final short y;
-        private final int z;
-
-        private Pos(int x, int y, int z) {
-            this.x = x;
-            this.y = (short) y;
-            this.z = z;
-        }
-
-        public int getX() {
-            return x;
-        }
-
-        public int getY() {
-            return y;
-        }
-
-        public int getZ() {
-            return z;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            Pos pos = (Pos) o;
-            if (x != pos.x) return false;
-            if (y != pos.y) return false;
-            return z == pos.z;
-        }
-
-        @Override
-        public int hashCode() {
-            int result = x;
-            result = 31 * result + y;
-            result = 31 * result + z;
-            return result;
-        }
-
-        @Override
-        public String toString() {
-            return "Pos{" + "x=" + x + ", y=" + y + ", z=" + z + '}';
-        }
-    }
 }
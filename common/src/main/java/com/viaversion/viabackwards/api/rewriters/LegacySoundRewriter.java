@@ -23,9 +23,12 @@ import com.viaversion.viaversion.api.rewriter.RewriterBase;
 import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectMap;
 import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectOpenHashMap;
 
+import java.util.Arrays;
+
 @Deprecated
 public abstract class LegacySoundRewriter<T extends BackwardsProtocol> extends RewriterBase<T> {
     protected final Int2ObjectMap<SoundData> soundRewrites = new Int2ObjectOpenHashMap<>(64);
+    private volatile SoundTable soundTable;
 
     protected LegacySoundRewriter(T protocol) {
         super(protocol);
@@ -38,40 +41,76 @@ public abstract class LegacySoundRewriter<T extends BackwardsProtocol> extends R
     public SoundData added(int id, int replacement, float newPitch) {
         SoundData data = new SoundData(replacement, true, newPitch, true);
         soundRewrites.put(id, data);
+        soundTable = null;
         return data;
     }
 
     public SoundData removed(int id) {
         SoundData data = new SoundData(-1, false, -1, false);
         soundRewrites.put(id, data);
+        soundTable = null;
         return data;
     }
 
     public int handleSounds(int soundId) {
-        int newSoundId = soundId;
-        SoundData data = soundRewrites.get(soundId);
-        if (data != null) return data.getReplacementSound();
-
-        for (Int2ObjectMap.Entry<SoundData> entry : soundRewrites.int2ObjectEntrySet()) {
-            if (soundId > entry.getIntKey()) {
-                if (entry.getValue().isAdded()) {
-                    newSoundId--;
-                } else {
-                    newSoundId++;
-                }
-            }
-        }
-        return newSoundId;
+        if (soundId < 0) return soundId;
+
+        SoundTable table = soundTable();
+        return soundId < table.soundIds.length ? table.soundIds[soundId] : soundId + table.trailingShift;
     }
 
     public boolean hasPitch(int soundId) {
-        SoundData data = soundRewrites.get(soundId);
-        return data != null && data.isChangePitch();
+        float[] pitches = soundTable().pitches;
+        return soundId >= 0 && soundId < pitches.length && !Float.isNaN(pitches[soundId]);
     }
 
     public float handlePitch(int soundId) {
-        SoundData data = soundRewrites.get(soundId);
-        return data != null ? data.getNewPitch() : 1F;
+        return hasPitch(soundId) ? soundTable().pitches[soundId] : 1F;
+    }
+
+    private SoundTable soundTable() {
+        SoundTable table = soundTable;
+        if (table == null) {
+            soundTable = table = new SoundTable(soundRewrites);
+        }
+        return table;
+    }
+
+    /**
+     * Old to new sound ids compiled from the added and removed sounds.
+     * Every added sound below an id shifts it down by one, every removed sound shifts it up by one.
+     */
+    private static final class SoundTable {
+        private final int[] soundIds;
+        private final float[] pitches;
+        private final int trailingShift;
+
+        private SoundTable(Int2ObjectMap<SoundData> soundRewrites) {
+            int maxId = -1;
+            for (int id : soundRewrites.keySet()) {
+                maxId = Math.max(maxId, id);
+            }
+
+            soundIds = new int[maxId + 1];
+            pitches = new float[maxId + 1];
+            Arrays.fill(pitches, Float.NaN);
+
+            int shift = 0;
+            for (int id = 0; id <= maxId; id++) {
+                SoundData data = soundRewrites.get(id);
+                if (data == null) {
+                    soundIds[id] = id + shift;
+                    continue;
+                }
+
+                soundIds[id] = data.getReplacementSound();
+                if (data.isChangePitch()) {
+                    pitches[id] = data.getNewPitch();
+                }
+                shift += data.isAdded() ? -1 : 1;
+            }
+            trailingShift = shift;
+        }
     }
 
     public static final class SoundData {
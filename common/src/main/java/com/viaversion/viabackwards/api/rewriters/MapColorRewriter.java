@@ -30,6 +30,7 @@ public final class MapColorRewriter {
      * @return packethandler to rewrite map data color ids
      */
     public static PacketHandler getRewriteHandler(IdRewriteFunction rewriter) {
+        byte[] colors = colorTable(rewriter);
         return wrapper -> {
             int iconCount = wrapper.passthrough(Type.VAR_INT);
             for (int i = 0; i < iconCount; i++) {
@@ -49,13 +50,28 @@ public final class MapColorRewriter {
             wrapper.passthrough(Type.UNSIGNED_BYTE); // X
             wrapper.passthrough(Type.UNSIGNED_BYTE); // Z
             byte[] data = wrapper.passthrough(Type.BYTE_ARRAY_PRIMITIVE);
-            for (int i = 0; i < data.length; i++) {
-                int color = data[i] & 0xFF;
-                int mappedColor = rewriter.rewrite(color);
-                if (mappedColor != -1) {
-                    data[i] = (byte) mappedColor;
-                }
-            }
+            rewriteColors(data, colors);
         };
     }
+
+    /**
+     * Returns a table of the mapped color of each of the 256 color ids.
+     *
+     * @param rewriter id rewriter returning mapped colors, or -1 if unmapped
+     * @return color table to be used with {@link #rewriteColors(byte[], byte[])}
+     */
+    public static byte[] colorTable(IdRewriteFunction rewriter) {
+        byte[] colors = new byte[256];
+        for (int color = 0; color < colors.length; color++) {
+            int mappedColor = rewriter.rewrite(color);
+            colors[color] = (byte) (mappedColor != -1 ? mappedColor : color);
+        }
+        return colors;
+    }
+
+    public static void rewriteColors(byte[] data, byte[] colors) {
+        for (int i = 0; i < data.length; i++) {
+            data[i] = colors[data[i] & 0xFF];
+        }
+    }
 }
@@ -17,8 +17,12 @@
  */
 package com.viaversion.viabackwards.api.rewriters;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.BackwardsProtocol;
+import com.viaversion.viabackwards.api.data.DataLoadReport;
+import com.viaversion.viabackwards.api.data.PackedMappingData;
 import com.viaversion.viabackwards.api.data.VBMappingDataLoader;
 import com.viaversion.viaversion.api.protocol.packet.ClientboundPacketType;
 import com.viaversion.viaversion.api.protocol.packet.State;
@@ -27,22 +31,44 @@ import com.viaversion.viaversion.api.type.Type;
 import com.viaversion.viaversion.libs.gson.JsonElement;
 import com.viaversion.viaversion.libs.gson.JsonObject;
 import com.viaversion.viaversion.rewriter.ComponentRewriter;
+import com.viaversion.viaversion.util.GsonUtil;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TranslatableRewriter extends ComponentRewriter {
 
-    private static final Map<String, Map<String, String>> TRANSLATABLES = new HashMap<>();
+    private static final String TRANSLATE_KEY = "\"translate\"";
+    private static final int STATUS_CACHE_SIZE = 16;
+    private static final Map<String, Map<String, String>> TRANSLATABLES = new ConcurrentHashMap<>();
+    private static volatile boolean translatablesLoaded;
     protected final Map<String, String> newTranslatables;
+    // Processed status responses by their original json, these rarely change between pings
+    private final Cache<String, String> statusCache = CacheBuilder.newBuilder().maximumSize(STATUS_CACHE_SIZE).build();
 
+    /**
+     * Loads the translation mappings of all versions if not already loaded.
+     * Protocols using translatables have to call this from their async loader.
+     */
     public static void loadTranslatables() {
-        JsonObject jsonObject = VBMappingDataLoader.loadData("translation-mappings.json");
-        for (Map.Entry<String, JsonElement> entry : jsonObject.entrySet()) {
-            Map<String, String> versionMappings = new HashMap<>();
-            TRANSLATABLES.put(entry.getKey(), versionMappings);
-            for (Map.Entry<String, JsonElement> translationEntry : entry.getValue().getAsJsonObject().entrySet()) {
-                versionMappings.put(translationEntry.getKey(), translationEntry.getValue().getAsString());
+        if (translatablesLoaded) return;
+
+        synchronized (TRANSLATABLES) {
+            if (translatablesLoaded) return;
+
+            DataLoadReport.time("translations", () -> {
+                PackedMappingData data = VBMappingDataLoader.loadPackedData("translation-mappings");
+                for (String version : data.sectionNames()) {
+                    TRANSLATABLES.computeIfAbsent(version, key -> new HashMap<>()).putAll(data.section(version).toMap());
+                }
+            });
+            translatablesLoaded = true;
+
+            for (Map.Entry<String, Map<String, String>> entry : TRANSLATABLES.entrySet()) {
+                if (entry.getValue().isEmpty()) {
+                    ViaBackwards.getPlatform().getLogger().warning("Error loading " + entry.getKey() + " translatables!");
+                }
             }
         }
     }
@@ -53,12 +79,10 @@ public class TranslatableRewriter extends ComponentRewriter {
 
     public TranslatableRewriter(BackwardsProtocol protocol, String sectionIdentifier) {
         super(protocol);
-        final Map<String, String> newTranslatables = TRANSLATABLES.get(sectionIdentifier);
-        if (newTranslatables == null) {
+        // Filled once the translatables have been loaded
+        this.newTranslatables = TRANSLATABLES.computeIfAbsent(sectionIdentifier, key -> new HashMap<>());
+        if (translatablesLoaded && newTranslatables.isEmpty()) {
             ViaBackwards.getPlatform().getLogger().warning("Error loading " + sectionIdentifier + " translatables!");
-            this.newTranslatables = new HashMap<>();
-        } else {
-            this.newTranslatables = newTranslatables;
         }
     }
 
@@ -71,6 +95,15 @@ public class TranslatableRewriter extends ComponentRewriter {
         });
     }
 
+    public void registerStatus() {
+        protocol.registerClientbound(State.STATUS, 0x00, 0x00, new PacketRemapper() {
+            @Override
+            public void registerMap() {
+                handler(wrapper -> wrapper.write(Type.STRING, processStatusCached(wrapper.read(Type.STRING))));
+            }
+        });
+    }
+
     public void registerDisconnect(ClientboundPacketType packetType) {
         protocol.registerClientbound(packetType, new PacketRemapper() {
             @Override
@@ -125,6 +158,88 @@ public class TranslatableRewriter extends ComponentRewriter {
         });
     }
 
+    /**
+     * Processes the description of a serialized status response, reusing the result of earlier calls with the same input.
+     *
+     * @param status serialized status response
+     * @return serialized status response with the processed description
+     */
+    public String processStatusCached(String status) {
+        if (!mayNeedProcessing(status)) {
+            return status;
+        }
+
+        String processed = statusCache.getIfPresent(status);
+        if (processed == null) {
+            processed = processStatus(status);
+            statusCache.put(status, processed);
+        }
+        return processed;
+    }
+
+    private String processStatus(String status) {
+        JsonObject object = GsonUtil.getGson().fromJson(status, JsonObject.class);
+        JsonElement description = object.get("description");
+        if (description == null) {
+            return status;
+        }
+
+        processText(description);
+        return object.toString();
+    }
+
+    /**
+     * Returns whether the serialized component may contain anything to rewrite, without parsing it.
+     * Only returns false if none of its translation keys have a mapping.
+     *
+     * @param json serialized component
+     * @return false if processing the component would not change it
+     */
+    public boolean mayNeedProcessing(String json) {
+        int index = 0;
+        while ((index = json.indexOf(TRANSLATE_KEY, index)) != -1) {
+            index += TRANSLATE_KEY.length();
+
+            int valueStart = stringValueStart(json, index);
+            if (valueStart == -1) {
+                // Not a plain string value, let the parser deal with it
+                return true;
+            }
+
+            int valueEnd = json.indexOf('"', valueStart);
+            if (valueEnd == -1) {
+                return true;
+            }
+
+            String translate = json.substring(valueStart, valueEnd);
+            if (translate.indexOf('\\') != -1 || newTranslatables.containsKey(translate)) {
+                return true;
+            }
+            index = valueEnd + 1;
+        }
+        return false;
+    }
+
+    private static int stringValueStart(String json, int index) {
+        index = skipWhitespace(json, index);
+        if (index >= json.length() || json.charAt(index) != ':') {
+            return -1;
+        }
+
+        index = skipWhitespace(json, index + 1);
+        if (index >= json.length() || json.charAt(index) != '"') {
+            return -1;
+        }
+        return index + 1;
+    }
+
+    private static int skipWhitespace(String json, int index) {
+        while (index < json.length() && Character.isWhitespace(json.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
     @Override
     protected void handleTranslate(JsonObject root, String translate) {
         String newTranslate = newTranslatables.get(translate);
@@ -0,0 +1,49 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2022 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.api.type;
+
+import com.viaversion.viaversion.api.type.Type;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Var int prefixed or remaining byte array, read as a slice of the packet buffer instead of being copied into a new array.
+ * Only meant for skipping data or passing it on as the input of another packet, slices can not be written.
+ * <p>
+ * The returned slice shares the input buffer and is only valid while the packet is being handled, it may not be stored.
+ */
+public final class ByteArraySliceType extends Type<ByteBuf> {
+
+    public static final ByteArraySliceType INSTANCE = new ByteArraySliceType("Byte Array Slice", true);
+    public static final ByteArraySliceType REMAINING = new ByteArraySliceType("Remaining Bytes Slice", false);
+    private final boolean prefixed;
+
+    private ByteArraySliceType(String typeName, boolean prefixed) {
+        super(typeName, ByteBuf.class);
+        this.prefixed = prefixed;
+    }
+
+    @Override
+    public ByteBuf read(ByteBuf buffer) {
+        return buffer.readSlice(prefixed ? Type.VAR_INT.readPrimitive(buffer) : buffer.readableBytes());
+    }
+
+    @Override
+    public void write(ByteBuf buffer, ByteBuf slice) {
+        throw new UnsupportedOperationException("Byte array slices can only be read");
+    }
+}
@@ -45,6 +45,10 @@ public class Protocol1_10To1_11 extends BackwardsProtocol<ClientboundPackets1_9_
     @Override
     protected void registerPackets() {
         (blockItemPackets = new BlockItemPackets1_11(this)).register();
+        executeAsync(() -> {
+            MAPPINGS.load();
+            blockItemPackets.loadReplacementData();
+        });
         entityPackets.register();
         new PlayerPackets1_11().register(this);
 
@@ -55,6 +59,8 @@ public class Protocol1_10To1_11 extends BackwardsProtocol<ClientboundPackets1_9_
 
     @Override
     public void init(UserConnection user) {
+        super.init(user);
+
         // Register ClientWorld
         if (!user.has(ClientWorld.class)) {
             user.put(new ClientWorld(user));
@@ -81,9 +87,4 @@ public class Protocol1_10To1_11 extends BackwardsProtocol<ClientboundPackets1_9_
     public BlockItemPackets1_11 getItemRewriter() {
         return blockItemPackets;
     }
-
-    @Override
-    public boolean hasMappingDataToLoad() {
-        return true;
-    }
 }
@@ -56,6 +56,10 @@ public class Protocol1_11_1To1_12 extends BackwardsProtocol<ClientboundPackets1_
     @Override
     protected void registerPackets() {
         blockItemPackets.register();
+        executeAsync(() -> {
+            MAPPINGS.load();
+            blockItemPackets.loadReplacementData();
+        });
         entityPackets.register();
         new SoundPackets1_12(this).register();
         new ChatPackets1_12(this).register();
@@ -80,6 +84,8 @@ public class Protocol1_11_1To1_12 extends BackwardsProtocol<ClientboundPackets1_
 
     @Override
     public void init(UserConnection user) {
+        super.init(user);
+
         // Register ClientWorld
         if (!user.has(ClientWorld.class)) {
             user.put(new ClientWorld(user));
@@ -104,9 +110,4 @@ public class Protocol1_11_1To1_12 extends BackwardsProtocol<ClientboundPackets1_
     public BlockItemPackets1_12 getItemRewriter() {
         return blockItemPackets;
     }
-
-    @Override
-    public boolean hasMappingDataToLoad() {
-        return true;
-    }
 }
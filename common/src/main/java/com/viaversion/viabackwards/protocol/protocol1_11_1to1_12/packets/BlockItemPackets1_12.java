@@ -19,6 +19,7 @@
 package com.viaversion.viabackwards.protocol.protocol1_11_1to1_12.packets;
 
 import com.viaversion.viabackwards.api.rewriters.LegacyBlockItemRewriter;
+import com.viaversion.viabackwards.api.rewriters.MapColorRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_11_1to1_12.Protocol1_11_1To1_12;
 import com.viaversion.viabackwards.protocol.protocol1_11_1to1_12.data.MapColorMapping;
 import com.viaversion.viaversion.api.minecraft.BlockChangeRecord;
@@ -44,6 +45,8 @@ import java.util.Map;
 
 public class BlockItemPackets1_12 extends LegacyBlockItemRewriter<Protocol1_11_1To1_12> {
 
+    private static final byte[] MAP_COLORS = MapColorRewriter.colorTable(MapColorMapping::getNearestOldColor);
+
     public BlockItemPackets1_12(Protocol1_11_1To1_12 protocol) {
         super(protocol);
     }
@@ -74,15 +77,8 @@ public class BlockItemPackets1_12 extends LegacyBlockItemRewriter<Protocol1_11_1
                         short rows = wrapper.passthrough(Type.UNSIGNED_BYTE);
                         wrapper.passthrough(Type.UNSIGNED_BYTE); // X
                         wrapper.passthrough(Type.UNSIGNED_BYTE); // Z
-                        byte[] data = wrapper.read(Type.BYTE_ARRAY_PRIMITIVE);
-                        for (int i = 0; i < data.length; i++) {
-                            short color = (short) (data[i] & 0xFF);
-                            if (color > 143) {
-                                color = (short) MapColorMapping.getNearestOldColor(color);
-                                data[i] = (byte) color;
-                            }
-                        }
-                        wrapper.write(Type.BYTE_ARRAY_PRIMITIVE, data);
+                        byte[] data = wrapper.passthrough(Type.BYTE_ARRAY_PRIMITIVE);
+                        MapColorRewriter.rewriteColors(data, MAP_COLORS);
                     }
                 });
             }
@@ -23,7 +23,6 @@ import com.viaversion.viabackwards.protocol.protocol1_11to1_11_1.packets.EntityP
 import com.viaversion.viabackwards.protocol.protocol1_11to1_11_1.packets.ItemPackets1_11_1;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.minecraft.entities.Entity1_11Types;
-import com.viaversion.viaversion.api.rewriter.ItemRewriter;
 import com.viaversion.viaversion.data.entity.EntityTrackerBase;
 import com.viaversion.viaversion.protocols.protocol1_9_3to1_9_1_2.ClientboundPackets1_9_3;
 import com.viaversion.viaversion.protocols.protocol1_9_3to1_9_1_2.ServerboundPackets1_9_3;
@@ -32,7 +31,7 @@ import com.viaversion.viaversion.protocols.protocol1_9_3to1_9_1_2.storage.Client
 public class Protocol1_11To1_11_1 extends BackwardsProtocol<ClientboundPackets1_9_3, ClientboundPackets1_9_3, ServerboundPackets1_9_3, ServerboundPackets1_9_3> {
 
     private final EntityPackets1_11_1 entityPackets = new EntityPackets1_11_1(this);
-    private final ItemRewriter itemRewriter = new ItemPackets1_11_1(this);
+    private final ItemPackets1_11_1 itemRewriter = new ItemPackets1_11_1(this);
 
     public Protocol1_11To1_11_1() {
         super(ClientboundPackets1_9_3.class, ClientboundPackets1_9_3.class, ServerboundPackets1_9_3.class, ServerboundPackets1_9_3.class);
@@ -42,10 +41,13 @@ public class Protocol1_11To1_11_1 extends BackwardsProtocol<ClientboundPackets1_
     protected void registerPackets() {
         entityPackets.register();
         itemRewriter.register();
+        executeAsync(itemRewriter::loadReplacementData);
     }
 
     @Override
     public void init(UserConnection user) {
+        super.init(user);
+
         // Register ClientWorld
         if (!user.has(ClientWorld.class)) {
             user.put(new ClientWorld(user));
@@ -60,7 +62,7 @@ public class Protocol1_11To1_11_1 extends BackwardsProtocol<ClientboundPackets1_
     }
 
     @Override
-    public ItemRewriter getItemRewriter() {
+    public ItemPackets1_11_1 getItemRewriter() {
         return itemRewriter;
     }
 }
@@ -22,7 +22,9 @@ import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.BackwardsProtocol;
 import com.viaversion.viabackwards.api.rewriters.TranslatableRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.data.BackwardsMappings;
+import com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.data.EntityTypeMapping;
 import com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.data.PaintingMapping;
+import com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.data.ParticleMapping;
 import com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.packets.BlockItemPackets1_13;
 import com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.packets.EntityPackets1_13;
 import com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.packets.PlayerPacket1_13;
@@ -58,7 +60,10 @@ public class Protocol1_12_2To1_13 extends BackwardsProtocol<ClientboundPackets1_
     protected void registerPackets() {
         executeAsyncAfterLoaded(Protocol1_13To1_12_2.class, () -> {
             MAPPINGS.load();
+            TranslatableRewriter.loadTranslatables();
             PaintingMapping.init();
+            ParticleMapping.init();
+            EntityTypeMapping.init();
             Via.getManager().getProviders().register(BackwardsBlockEntityProvider.class, new BackwardsBlockEntityProvider());
         });
 
@@ -70,6 +75,12 @@ public class Protocol1_12_2To1_13 extends BackwardsProtocol<ClientboundPackets1_
                     root.addProperty("translate", newTranslate);
                 }
             }
+
+            @Override
+            public boolean mayNeedProcessing(String json) {
+                // Also uses the translate mappings of the mapping data
+                return json.contains("translate");
+            }
         };
         translatableRewriter.registerPing();
         translatableRewriter.registerBossBar(ClientboundPackets1_13.BOSSBAR);
@@ -98,6 +109,8 @@ public class Protocol1_12_2To1_13 extends BackwardsProtocol<ClientboundPackets1_
 
     @Override
     public void init(UserConnection user) {
+        super.init(user);
+
         // Register ClientWorld
         if (!user.has(ClientWorld.class)) {
             user.put(new ClientWorld(user));
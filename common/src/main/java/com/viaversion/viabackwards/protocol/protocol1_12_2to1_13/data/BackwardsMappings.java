@@ -29,7 +29,6 @@ import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectOpenHashMap;
 import com.viaversion.viaversion.libs.fastutil.objects.Object2IntMap;
 import com.viaversion.viaversion.libs.gson.JsonElement;
 import com.viaversion.viaversion.libs.gson.JsonObject;
-import com.viaversion.viaversion.libs.gson.JsonPrimitive;
 import com.viaversion.viaversion.protocols.protocol1_13to1_12_2.Protocol1_13To1_12_2;
 import com.viaversion.viaversion.protocols.protocol1_13to1_12_2.data.StatisticMappings;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -59,31 +58,31 @@ public class BackwardsMappings extends com.viaversion.viabackwards.api.data.Back
     }
 
     // Has lots of compat layers, so we can't use the default Via method
-    private static void mapIdentifiers(int[] output, JsonObject newIdentifiers, JsonObject oldIdentifiers, JsonObject mapping) {
+    private static void mapIdentifiers(int[] output, JsonObject newIdentifiers, JsonObject oldIdentifiers, Map<String, String> mapping) {
         Object2IntMap<String> newIdentifierMap = MappingDataLoader.indexedObjectToMap(oldIdentifiers);
         for (Map.Entry<String, JsonElement> entry : newIdentifiers.entrySet()) {
             String key = entry.getValue().getAsString();
             int value = newIdentifierMap.getInt(key);
             short hardId = -1;
             if (value == -1) {
-                JsonPrimitive replacement = mapping.getAsJsonPrimitive(key);
+                String replacement = mapping.get(key);
                 int propertyIndex;
                 if (replacement == null && (propertyIndex = key.indexOf('[')) != -1) {
-                    replacement = mapping.getAsJsonPrimitive(key.substring(0, propertyIndex));
+                    replacement = mapping.get(key.substring(0, propertyIndex));
                 }
                 if (replacement != null) {
-                    if (replacement.getAsString().startsWith("id:")) {
-                        String id = replacement.getAsString().replace("id:", "");
+                    if (replacement.startsWith("id:")) {
+                        String id = replacement.replace("id:", "");
                         hardId = Short.parseShort(id);
                         value = newIdentifierMap.getInt(oldIdentifiers.getAsJsonPrimitive(id).getAsString());
                     } else {
-                        value = newIdentifierMap.getInt(replacement.getAsString());
+                        value = newIdentifierMap.getInt(replacement);
                     }
                 }
                 if (value == -1) {
                     if (!Via.getConfig().isSuppressConversionWarnings() || Via.getManager().isDebug()) {
                         if (replacement != null) {
-                            ViaBackwards.getPlatform().getLogger().warning("No key for " + entry.getValue() + "/" + replacement.getAsString() + " :( ");
+                            ViaBackwards.getPlatform().getLogger().warning("No key for " + entry.getValue() + "/" + replacement + " :( ");
                         } else {
                             ViaBackwards.getPlatform().getLogger().warning("No key for " + entry.getValue() + " :( ");
                         }
@@ -100,7 +99,7 @@ public class BackwardsMappings extends com.viaversion.viabackwards.api.data.Back
         if (key.equals("blockstates")) {
             int[] oldToNew = new int[8582];
             Arrays.fill(oldToNew, -1);
-            mapIdentifiers(oldToNew, oldMappings.getAsJsonObject("blockstates"), newMappings.getAsJsonObject("blocks"), diffMappings.getAsJsonObject("blockstates"));
+            mapIdentifiers(oldToNew, oldMappings.getAsJsonObject("blockstates"), newMappings.getAsJsonObject("blocks"), diffSection("blockstates").toMap());
             return IntArrayMappings.of(oldToNew, -1);
         } else {
             return super.loadFromObject(oldMappings, newMappings, diffMappings, key);
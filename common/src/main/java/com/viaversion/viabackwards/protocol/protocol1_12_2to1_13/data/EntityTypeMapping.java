@@ -26,7 +26,7 @@ import java.lang.reflect.Field;
 public class EntityTypeMapping {
     private static final Int2IntMap TYPES = new Int2IntOpenHashMap();
 
-    static {
+    public static void init() {
         TYPES.defaultReturnValue(-1);
         try {
             Field field = EntityTypeRewriter.class.getDeclaredField("ENTITY_TYPES");
@@ -27,9 +27,9 @@ import com.viaversion.viaversion.api.type.types.Particle;
 import java.util.List;
 
 public class ParticleMapping {
-    private static final ParticleData[] particles;
+    private static ParticleData[] particles;
 
-    static {
+    public static void init() {
         ParticleHandler blockHandler = new ParticleHandler() {
             @Override
             public int[] rewrite(Protocol1_12_2To1_13 protocol, PacketWrapper wrapper) throws Exception {
@@ -25,12 +25,15 @@ import com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.Protocol1_12_2T
 import com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.block_entity_handlers.FlowerPotHandler;
 import com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.providers.BackwardsBlockEntityProvider;
 import com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.storage.BackwardsBlockStorage;
+import com.viaversion.viabackwards.utils.ChunkSectionScanner;
 import com.viaversion.viaversion.api.Via;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.minecraft.BlockChangeRecord;
 import com.viaversion.viaversion.api.minecraft.Position;
 import com.viaversion.viaversion.api.minecraft.chunks.Chunk;
 import com.viaversion.viaversion.api.minecraft.chunks.ChunkSection;
+import com.viaversion.viaversion.api.minecraft.chunks.DataPalette;
+import com.viaversion.viaversion.api.minecraft.chunks.PaletteType;
 import com.viaversion.viaversion.api.minecraft.item.Item;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
 import com.viaversion.viaversion.api.protocol.remapper.PacketHandler;
@@ -182,16 +185,9 @@ public class BlockItemPackets1_13 extends com.viaversion.viabackwards.api.rewrit
                 handler(new PacketHandler() {
                     @Override
                     public void handle(PacketWrapper wrapper) throws Exception {
-                        int chunkMinX = wrapper.passthrough(Type.INT) << 4;
-                        int chunkMinZ = wrapper.passthrough(Type.INT) << 4;
-                        int chunkMaxX = chunkMinX + 15;
-                        int chunkMaxZ = chunkMinZ + 15;
-                        BackwardsBlockStorage blockStorage = wrapper.user().get(BackwardsBlockStorage.class);
-                        blockStorage.getBlocks().entrySet().removeIf(entry -> {
-                            Position position = entry.getKey();
-                            return position.getX() >= chunkMinX && position.getZ() >= chunkMinZ
-                                    && position.getX() <= chunkMaxX && position.getZ() <= chunkMaxZ;
-                        });
+                        int chunkX = wrapper.passthrough(Type.INT);
+                        int chunkZ = wrapper.passthrough(Type.INT);
+                        wrapper.user().get(BackwardsBlockStorage.class).unloadChunk(chunkX, chunkZ);
                     }
                 });
             }
@@ -327,34 +323,27 @@ public class BlockItemPackets1_13 extends com.viaversion.viabackwards.api.rewrit
                         }
 
                         // Flower pots require a special treatment, they are no longer block entities :(
-                        for (int y = 0; y < 16; y++) {
-                            for (int z = 0; z < 16; z++) {
-                                for (int x = 0; x < 16; x++) {
-                                    int block = section.getFlatBlock(x, y, z);
-
-                                    // Check if the block is a flower
-                                    if (FlowerPotHandler.isFlowah(block)) {
-                                        Position pos = new Position(
-                                                (x + (chunk.getX() << 4)),
-                                                (short) (y + (i << 4)),
-                                                (z + (chunk.getZ() << 4))
-                                        );
-                                        // Store block
-                                        storage.checkAndStore(pos, block);
-
-                                        CompoundTag nbt = provider.transform(wrapper.user(), pos, "minecraft:flower_pot");
-
-                                        chunk.getBlockEntities().add(nbt);
-                                    }
-                                }
-                            }
-                        }
+                        DataPalette palette = section.palette(PaletteType.BLOCKS);
+                        int sectionY = i << 4;
+                        ChunkSectionScanner.forEachMatching(palette, FlowerPotHandler::isFlowah, (x, y, z, block) -> {
+                            Position pos = new Position(
+                                    (x + (chunk.getX() << 4)),
+                                    (short) (y + sectionY),
+                                    (z + (chunk.getZ() << 4))
+                            );
+                            // Store block
+                            storage.checkAndStore(pos, block);
+
+                            CompoundTag nbt = provider.transform(wrapper.user(), pos, "minecraft:flower_pot");
+
+                            chunk.getBlockEntities().add(nbt);
+                        });
 
-                        for (int p = 0; p < section.getPaletteSize(); p++) {
-                            int old = section.getPaletteEntry(p);
+                        for (int p = 0; p < palette.size(); p++) {
+                            int old = palette.idByIndex(p);
                             if (old != 0) {
                                 int oldId = protocol.getMappingData().getNewBlockStateId(old);
-                                section.setPaletteEntry(p, oldId);
+                                palette.setIdByIndex(p, oldId);
                             }
                         }
                     }
@@ -187,7 +187,7 @@ public class PlayerPacket1_13 extends RewriterBase<Protocol1_12_2To1_13> {
                             UUID uuid = packetWrapper.passthrough(Type.UUID);
                             if (action == 0) { // Add
                                 String name = packetWrapper.passthrough(Type.STRING);
-                                storage.usernames().put(uuid, name);
+                                storage.addUsername(uuid, name);
                                 int nProperties = packetWrapper.passthrough(Type.VAR_INT);
                                 for (int j = 0; j < nProperties; j++) {
                                     packetWrapper.passthrough(Type.STRING);
@@ -210,7 +210,7 @@ public class PlayerPacket1_13 extends RewriterBase<Protocol1_12_2To1_13> {
                                     packetWrapper.passthrough(Type.COMPONENT);
                                 }
                             } else if (action == 4) { // Remove Player
-                                storage.usernames().remove(uuid);
+                                storage.removeUsername(uuid);
                             }
                         }
                     }
@@ -313,9 +313,7 @@ public class PlayerPacket1_13 extends RewriterBase<Protocol1_12_2To1_13> {
 
                     TabCompleteStorage storage = wrapper.user().get(TabCompleteStorage.class);
 
-                    if (!storage.commands().isEmpty()) {
-                        storage.commands().clear();
-                    }
+                    storage.clearCommands();
 
                     int size = wrapper.read(Type.VAR_INT);
                     boolean initialNodes = true;
@@ -334,7 +332,7 @@ public class PlayerPacket1_13 extends RewriterBase<Protocol1_12_2To1_13> {
                         if (nodeType == 1 || nodeType == 2) { // Literal/argument node
                             String name = wrapper.read(Type.STRING);
                             if (nodeType == 1 && initialNodes) {
-                                storage.commands().add('/' + name);
+                                storage.addCommand('/' + name);
                             }
                         }
 
@@ -400,18 +398,10 @@ public class PlayerPacket1_13 extends RewriterBase<Protocol1_12_2To1_13> {
                     if (!assumeCommand && !command.startsWith("/")) {
                         // Complete usernames for non-commands
                         String buffer = command.substring(command.lastIndexOf(' ') + 1);
-                        for (String value : storage.usernames().values()) {
-                            if (startsWithIgnoreCase(value, buffer)) {
-                                suggestions.add(value);
-                            }
-                        }
-                    } else if (!storage.commands().isEmpty() && !command.contains(" ")) {
+                        storage.completeUsername(buffer, suggestions);
+                    } else if (storage.hasCommands() && !command.contains(" ")) {
                         // Complete commands names with values from 'Declare Commands' packet
-                        for (String value : storage.commands()) {
-                            if (startsWithIgnoreCase(value, command)) {
-                                suggestions.add(value);
-                            }
-                        }
+                        storage.completeCommand(command, suggestions);
                     }
 
                     if (!suggestions.isEmpty()) {
@@ -642,11 +632,4 @@ public class PlayerPacket1_13 extends RewriterBase<Protocol1_12_2To1_13> {
             }
         });
     }
-
-    private static boolean startsWithIgnoreCase(String string, String prefix) {
-        if (string.length() < prefix.length()) {
-            return false;
-        }
-        return string.regionMatches(true, 0, prefix, 0, prefix.length());
-    }
 }
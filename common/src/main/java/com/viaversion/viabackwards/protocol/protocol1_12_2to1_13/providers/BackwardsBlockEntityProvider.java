@@ -83,8 +83,8 @@ public class BackwardsBlockEntityProvider implements Provider {
         }
 
         BackwardsBlockStorage storage = user.get(BackwardsBlockStorage.class);
-        Integer blockId = storage.get(position);
-        if (blockId == null) {
+        int blockId = storage.get(position);
+        if (blockId == -1) {
             if (Via.getManager().isDebug()) {
                 ViaBackwards.getPlatform().getLogger().warning("Handled BlockEntity does not have a stored block :( " + id + " full tag: " + tag);
             }
@@ -22,9 +22,10 @@ import com.viaversion.viaversion.api.connection.StorableObject;
 import com.viaversion.viaversion.api.minecraft.Position;
 import com.viaversion.viaversion.libs.fastutil.ints.IntOpenHashSet;
 import com.viaversion.viaversion.libs.fastutil.ints.IntSet;
-
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import com.viaversion.viaversion.libs.fastutil.longs.Long2ObjectMap;
+import com.viaversion.viaversion.libs.fastutil.longs.Long2ObjectOpenHashMap;
+import com.viaversion.viaversion.libs.fastutil.shorts.Short2IntMap;
+import com.viaversion.viaversion.libs.fastutil.shorts.Short2IntOpenHashMap;
 
 public class BackwardsBlockStorage implements StorableObject {
     // This BlockStorage is very exclusive (;
@@ -66,35 +67,82 @@ public class BackwardsBlockStorage implements StorableObject {
         }
     }
 
-    private final Map<Position, Integer> blocks = new ConcurrentHashMap<>();
+    // Chunk key -> (section relative x/z and world y packed into a short -> block)
+    private final Long2ObjectMap<Short2IntMap> chunks = new Long2ObjectOpenHashMap<>();
 
     public void checkAndStore(Position position, int block) {
+        if (position.getY() < 0 || position.getY() > 255) {
+            return;
+        }
+
         if (!WHITELIST.contains(block)) {
             // Remove if not whitelisted
-            blocks.remove(position);
+            remove(position);
             return;
         }
 
-        blocks.put(position, block);
+        long chunkKey = chunkKey(position.getX() >> 4, position.getZ() >> 4);
+        Short2IntMap blocks = chunks.get(chunkKey);
+        if (blocks == null) {
+            blocks = new Short2IntOpenHashMap();
+            blocks.defaultReturnValue(-1);
+            chunks.put(chunkKey, blocks);
+        }
+
+        blocks.put(blockKey(position), block);
     }
 
     public boolean isWelcome(int block) {
         return WHITELIST.contains(block);
     }
 
-    public Integer get(Position position) {
-        return blocks.get(position);
+    /**
+     * Returns the stored block at the given position.
+     *
+     * @param position block position
+     * @return stored block, or -1 if none is stored
+     */
+    public int get(Position position) {
+        Short2IntMap blocks = chunks.get(chunkKey(position.getX() >> 4, position.getZ() >> 4));
+        if (blocks == null || position.getY() < 0 || position.getY() > 255) {
+            return -1;
+        }
+        return blocks.get(blockKey(position));
     }
 
+    /**
+     * Removes the stored block at the given position.
+     *
+     * @param position block position
+     * @return removed block, or -1 if none was stored
+     */
     public int remove(Position position) {
-        return blocks.remove(position);
+        long chunkKey = chunkKey(position.getX() >> 4, position.getZ() >> 4);
+        Short2IntMap blocks = chunks.get(chunkKey);
+        if (blocks == null || position.getY() < 0 || position.getY() > 255) {
+            return -1;
+        }
+
+        int block = blocks.remove(blockKey(position));
+        if (blocks.isEmpty()) {
+            chunks.remove(chunkKey);
+        }
+        return block;
+    }
+
+    public void unloadChunk(int chunkX, int chunkZ) {
+        chunks.remove(chunkKey(chunkX, chunkZ));
     }
 
     public void clear() {
-        blocks.clear();
+        chunks.clear();
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return (long) chunkX << 32 | (chunkZ & 0xFFFFFFFFL);
     }
 
-    public Map<Position, Integer> getBlocks() {
-        return blocks;
+    private static short blockKey(Position position) {
+        return (short) (position.getY() << 8 | (position.getZ() & 0xF) << 4 | (position.getX() & 0xF));
     }
 }
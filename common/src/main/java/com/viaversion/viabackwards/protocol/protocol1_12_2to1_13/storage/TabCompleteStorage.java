@@ -19,25 +19,69 @@ package com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.storage;
 
 import com.viaversion.viaversion.api.connection.StorableObject;
 
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import java.util.UUID;
 
 public class TabCompleteStorage implements StorableObject {
     private final Map<UUID, String> usernames = new HashMap<>();
-    private final Set<String> commands = new HashSet<>();
+    // Different players may share a name, commands repeat as literals of several command nodes
+    private final PrefixIndex usernameIndex = new PrefixIndex(false);
+    private final PrefixIndex commandIndex = new PrefixIndex(true);
     private int lastId;
     private String lastRequest;
     private boolean lastAssumeCommand;
 
-    public Map<UUID, String> usernames() {
-        return usernames;
+    public void addUsername(final UUID uuid, final String name) {
+        final String previous = usernames.put(uuid, name);
+        if (previous != null) {
+            usernameIndex.remove(previous);
+        }
+        usernameIndex.add(name);
     }
 
-    public Set<String> commands() {
-        return commands;
+    public void removeUsername(final UUID uuid) {
+        final String name = usernames.remove(uuid);
+        if (name != null) {
+            usernameIndex.remove(name);
+        }
+    }
+
+    /**
+     * Adds all usernames starting with the given prefix, ignoring case, to the list.
+     *
+     * @param prefix      username prefix
+     * @param suggestions list to add the usernames to
+     */
+    public void completeUsername(final String prefix, final List<String> suggestions) {
+        usernameIndex.collect(prefix, suggestions);
+    }
+
+    public void addCommand(final String command) {
+        commandIndex.add(command);
+    }
+
+    public void clearCommands() {
+        commandIndex.clear();
+    }
+
+    public boolean hasCommands() {
+        return !commandIndex.isEmpty();
+    }
+
+    /**
+     * Adds all commands starting with the given prefix, ignoring case, to the list.
+     *
+     * @param prefix      command prefix
+     * @param suggestions list to add the commands to
+     */
+    public void completeCommand(final String prefix, final List<String> suggestions) {
+        commandIndex.collect(prefix, suggestions);
     }
 
     public int lastId() {
@@ -63,4 +107,50 @@ public class TabCompleteStorage implements StorableObject {
     public void setLastAssumeCommand(boolean lastAssumeCommand) {
         this.lastAssumeCommand = lastAssumeCommand;
     }
+
+    /**
+     * Values sorted by their lower case form, so all values with a common prefix are found with a single range lookup.
+     */
+    private static final class PrefixIndex {
+        private final NavigableMap<String, List<String>> values = new TreeMap<>();
+        private final boolean distinct;
+
+        PrefixIndex(final boolean distinct) {
+            this.distinct = distinct;
+        }
+
+        void add(final String value) {
+            final List<String> list = values.computeIfAbsent(key(value), key -> new ArrayList<>(1));
+            if (!distinct || !list.contains(value)) {
+                list.add(value);
+            }
+        }
+
+        void remove(final String value) {
+            final String key = key(value);
+            final List<String> list = values.get(key);
+            if (list != null && list.remove(value) && list.isEmpty()) {
+                values.remove(key);
+            }
+        }
+
+        void collect(final String prefix, final List<String> result) {
+            final String key = key(prefix);
+            for (final List<String> list : values.subMap(key, true, key + Character.MAX_VALUE, false).values()) {
+                result.addAll(list);
+            }
+        }
+
+        boolean isEmpty() {
+            return values.isEmpty();
+        }
+
+        void clear() {
+            values.clear();
+        }
+
+        private static String key(final String value) {
+            return value.toLowerCase(Locale.ROOT);
+        }
+    }
 }
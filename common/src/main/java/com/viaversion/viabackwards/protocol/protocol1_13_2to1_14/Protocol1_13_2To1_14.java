@@ -27,6 +27,7 @@ import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.packets.PlayerP
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.packets.SoundPackets1_14;
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage.ChunkLightStorage;
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage.DifficultyStorage;
+import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage.EntityPositionTable1_14;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.minecraft.entities.Entity1_14Types;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
@@ -56,7 +57,10 @@ public class Protocol1_13_2To1_14 extends BackwardsProtocol<ClientboundPackets1_
 
     @Override
     protected void registerPackets() {
-        executeAsyncAfterLoaded(Protocol1_14To1_13_2.class, MAPPINGS::load);
+        executeAsyncAfterLoaded(Protocol1_14To1_13_2.class, () -> {
+            MAPPINGS.load();
+            TranslatableRewriter.loadTranslatables();
+        });
 
         translatableRewriter.registerBossBar(ClientboundPackets1_14.BOSSBAR);
         translatableRewriter.registerComponentPacket(ClientboundPackets1_14.CHAT_MESSAGE);
@@ -171,7 +175,6 @@ public class Protocol1_13_2To1_14 extends BackwardsProtocol<ClientboundPackets1_
                             wrapper.read(Type.BYTE_ARRAY_PRIMITIVE);
                         }
 
-                        //TODO Soft memory leak: Don't store light if chunk is already loaded
                         wrapper.user().get(ChunkLightStorage.class).setStoredLight(skyLight, blockLight, x, z);
                         wrapper.cancel();
                     }
@@ -186,6 +189,8 @@ public class Protocol1_13_2To1_14 extends BackwardsProtocol<ClientboundPackets1_
 
     @Override
     public void init(UserConnection user) {
+        super.init(user);
+
         // Register ClientWorld
         if (!user.has(ClientWorld.class)) {
             user.put(new ClientWorld(user));
@@ -198,6 +203,7 @@ public class Protocol1_13_2To1_14 extends BackwardsProtocol<ClientboundPackets1_
         }
 
         user.put(new DifficultyStorage(user));
+        user.put(new EntityPositionTable1_14());
     }
 
     @Override
@@ -22,12 +22,15 @@ import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.rewriters.EnchantmentRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.Protocol1_13_2To1_14;
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage.ChunkLightStorage;
+import com.viaversion.viabackwards.utils.ChunkSectionScanner;
 import com.viaversion.viaversion.api.Via;
 import com.viaversion.viaversion.api.minecraft.Environment;
 import com.viaversion.viaversion.api.minecraft.chunks.Chunk;
 import com.viaversion.viaversion.api.minecraft.chunks.ChunkSection;
 import com.viaversion.viaversion.api.minecraft.chunks.ChunkSectionLight;
 import com.viaversion.viaversion.api.minecraft.chunks.ChunkSectionLightImpl;
+import com.viaversion.viaversion.api.minecraft.chunks.DataPalette;
+import com.viaversion.viaversion.api.minecraft.chunks.PaletteType;
 import com.viaversion.viaversion.api.minecraft.entities.Entity1_14Types;
 import com.viaversion.viaversion.api.minecraft.entities.EntityType;
 import com.viaversion.viaversion.api.minecraft.item.Item;
@@ -62,6 +65,8 @@ import java.util.Set;
 
 public class BlockItemPackets1_14 extends com.viaversion.viabackwards.api.rewriters.ItemRewriter<Protocol1_13_2To1_14> {
 
+    private static final Chunk1_14Type CHUNK_TYPE_1_14 = new Chunk1_14Type();
+
     private EnchantmentRewriter enchantmentRewriter;
 
     public BlockItemPackets1_14(Protocol1_13_2To1_14 protocol) {
@@ -428,10 +433,13 @@ public class BlockItemPackets1_14 extends com.viaversion.viabackwards.api.rewrit
                     @Override
                     public void handle(PacketWrapper wrapper) throws Exception {
                         ClientWorld clientWorld = wrapper.user().get(ClientWorld.class);
-                        Chunk chunk = wrapper.read(new Chunk1_14Type());
+                        Chunk chunk = wrapper.read(CHUNK_TYPE_1_14);
                         wrapper.write(new Chunk1_13Type(clientWorld), chunk);
 
-                        ChunkLightStorage.ChunkLight chunkLight = wrapper.user().get(ChunkLightStorage.class).getStoredLight(chunk.getX(), chunk.getZ());
+                        ChunkLightStorage lightStorage = wrapper.user().get(ChunkLightStorage.class);
+                        ChunkLightStorage.ChunkLight chunkLight = chunk.isFullChunk()
+                                ? lightStorage.loadChunk(chunk.getX(), chunk.getZ())
+                                : lightStorage.getStoredLight(chunk.getX(), chunk.getZ());
                         for (int i = 0; i < chunk.getSections().length; i++) {
                             ChunkSection section = chunk.getSections()[i];
                             if (section == null) continue;
@@ -452,23 +460,30 @@ public class BlockItemPackets1_14 extends com.viaversion.viabackwards.api.rewrit
                                 }
                             }
 
+                            DataPalette palette = section.palette(PaletteType.BLOCKS);
                             if (Via.getConfig().isNonFullBlockLightFix() && section.getNonAirBlocksCount() != 0 && sectionLight.hasBlockLight()) {
-                                for (int x = 0; x < 16; x++) {
-                                    for (int y = 0; y < 16; y++) {
-                                        for (int z = 0; z < 16; z++) {
-                                            int id = section.getFlatBlock(x, y, z);
-                                            if (Protocol1_14To1_13_2.MAPPINGS.getNonFullBlocks().contains(id)) {
-                                                sectionLight.getBlockLightNibbleArray().set(x, y, z, 0);
-                                            }
+                                boolean[] nonFullBlocks = ChunkSectionScanner.matchingPaletteIndices(palette, Protocol1_14To1_13_2.MAPPINGS.getNonFullBlocks()::contains);
+                                if (nonFullBlocks != null) {
+                                    // Don't modify light arrays shared with other sections
+                                    byte[] blockLight = sectionLight.getBlockLight();
+                                    if (ChunkLightStorage.isSharedLight(blockLight)) {
+                                        blockLight = blockLight.clone();
+                                        sectionLight.setBlockLight(blockLight);
+                                    }
+
+                                    // Set the light nibble of non-full blocks to 0, even indices are stored in the lower half of the byte
+                                    for (int index = 0; index < ChunkSectionScanner.SECTION_SIZE; index++) {
+                                        if (nonFullBlocks[palette.paletteIndexAt(index)]) {
+                                            blockLight[index >> 1] &= (index & 1) == 0 ? 0xF0 : 0x0F;
                                         }
                                     }
                                 }
                             }
 
-                            for (int j = 0; j < section.getPaletteSize(); j++) {
-                                int old = section.getPaletteEntry(j);
+                            for (int j = 0; j < palette.size(); j++) {
+                                int old = palette.idByIndex(j);
                                 int newId = protocol.getMappingData().getNewBlockStateId(old);
-                                section.setPaletteEntry(j, newId);
+                                palette.setIdByIndex(j, newId);
                             }
                         }
                     }
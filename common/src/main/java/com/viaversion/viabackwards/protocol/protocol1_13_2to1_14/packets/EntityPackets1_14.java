@@ -20,11 +20,12 @@ package com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.packets;
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.entities.storage.EntityData;
 import com.viaversion.viabackwards.api.entities.storage.EntityPositionHandler;
+import com.viaversion.viabackwards.api.entities.storage.EntityPositionTable;
 import com.viaversion.viabackwards.api.rewriters.LegacyEntityRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.Protocol1_13_2To1_14;
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage.ChunkLightStorage;
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage.DifficultyStorage;
-import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage.EntityPositionStorage1_14;
+import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage.EntityPositionTable1_14;
 import com.viaversion.viaversion.api.data.entity.EntityTracker;
 import com.viaversion.viaversion.api.minecraft.Position;
 import com.viaversion.viaversion.api.minecraft.VillagerData;
@@ -70,7 +71,7 @@ public class EntityPackets1_14 extends LegacyEntityRewriter<Protocol1_13_2To1_14
 
     @Override
     protected void registerPackets() {
-        positionHandler = new EntityPositionHandler(this, EntityPositionStorage1_14.class, EntityPositionStorage1_14::new);
+        positionHandler = new EntityPositionHandler(this, EntityPositionTable1_14.class);
 
         protocol.registerClientbound(ClientboundPackets1_14.ENTITY_STATUS, new PacketRemapper() {
             @Override
@@ -298,7 +299,20 @@ public class EntityPackets1_14 extends LegacyEntityRewriter<Protocol1_13_2To1_14
             }
         });
 
-        registerRemoveEntities(ClientboundPackets1_14.DESTROY_ENTITIES);
+        protocol.registerClientbound(ClientboundPackets1_14.DESTROY_ENTITIES, new PacketRemapper() {
+            @Override
+            public void registerMap() {
+                handler(wrapper -> {
+                    int[] entityIds = wrapper.passthrough(Type.VAR_INT_ARRAY_PRIMITIVE);
+                    EntityTracker tracker = tracker(wrapper.user());
+                    EntityPositionTable positions = positionHandler.positions(wrapper.user());
+                    for (int entityId : entityIds) {
+                        tracker.removeEntity(entityId);
+                        positions.remove(entityId);
+                    }
+                });
+            }
+        });
         registerMetadataRewriter(ClientboundPackets1_14.ENTITY_METADATA, Types1_14.METADATA_LIST, Types1_13_2.METADATA_LIST);
 
         protocol.registerClientbound(ClientboundPackets1_14.JOIN_GAME, new PacketRemapper() {
@@ -319,10 +333,7 @@ public class EntityPackets1_14 extends LegacyEntityRewriter<Protocol1_13_2To1_14
                     wrapper.read(Type.VAR_INT); // Read View Distance
 
                     //TODO Track client position
-                    // Manually add position storage
-                    /*int entitiyId = wrapper.get(Type.INT, 0);
-                    StoredEntityData storedEntity = protocol.getEntityRewriter().tracker(wrapper.user()).entityData(entitiyId);
-                    storedEntity.put(new EntityPositionStorage1_14());*/
+                    positionHandler.positions(wrapper.user()).clear();
                 });
             }
         });
@@ -341,6 +352,7 @@ public class EntityPackets1_14 extends LegacyEntityRewriter<Protocol1_13_2To1_14
                     wrapper.write(Type.UNSIGNED_BYTE, difficulty);
 
                     wrapper.user().get(ChunkLightStorage.class).clear();
+                    positionHandler.positions(wrapper.user()).clear();
                 });
             }
         });
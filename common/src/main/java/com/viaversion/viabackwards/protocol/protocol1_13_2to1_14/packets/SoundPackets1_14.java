@@ -20,8 +20,7 @@ package com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.packets;
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.rewriters.SoundRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.Protocol1_13_2To1_14;
-import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage.EntityPositionStorage1_14;
-import com.viaversion.viaversion.api.data.entity.StoredEntityData;
+import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage.EntityPositionTable1_14;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
 import com.viaversion.viaversion.api.protocol.remapper.PacketRemapper;
 import com.viaversion.viaversion.api.rewriter.RewriterBase;
@@ -56,18 +55,18 @@ public class SoundPackets1_14 extends RewriterBase<Protocol1_13_2To1_14> {
                     int category = wrapper.read(Type.VAR_INT);
                     int entityId = wrapper.read(Type.VAR_INT);
 
-                    StoredEntityData storedEntity = wrapper.user().getEntityTracker(protocol.getClass()).entityData(entityId);
-                    EntityPositionStorage1_14 entityStorage;
-                    if (storedEntity == null || (entityStorage = storedEntity.get(EntityPositionStorage1_14.class)) == null) {
+                    EntityPositionTable1_14 positions = wrapper.user().get(EntityPositionTable1_14.class);
+                    int index = positions.index(entityId);
+                    if (index == -1) {
                         ViaBackwards.getPlatform().getLogger().warning("Untracked entity with id " + entityId);
                         return;
                     }
 
                     float volume = wrapper.read(Type.FLOAT);
                     float pitch = wrapper.read(Type.FLOAT);
-                    int x = (int) (entityStorage.getX() * 8D);
-                    int y = (int) (entityStorage.getY() * 8D);
-                    int z = (int) (entityStorage.getZ() * 8D);
+                    int x = (int) (positions.x(index) * 8D);
+                    int y = (int) (positions.y(index) * 8D);
+                    int z = (int) (positions.z(index) * 8D);
 
                     PacketWrapper soundPacket = wrapper.create(ClientboundPackets1_13.SOUND);
                     soundPacket.write(Type.VAR_INT, newId);
@@ -17,73 +17,262 @@
  */
 package com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage;
 
+import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viaversion.api.connection.StoredObject;
 import com.viaversion.viaversion.api.connection.UserConnection;
+import com.viaversion.viaversion.libs.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import com.viaversion.viaversion.libs.fastutil.longs.Long2ObjectMap;
+import com.viaversion.viaversion.libs.fastutil.longs.Long2ObjectOpenHashMap;
+import com.viaversion.viaversion.libs.fastutil.longs.LongOpenHashSet;
+import com.viaversion.viaversion.libs.fastutil.longs.LongSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public class ChunkLightStorage extends StoredObject {
     public static final byte[] FULL_LIGHT = new byte[2048];
     public static final byte[] EMPTY_LIGHT = new byte[2048];
-    private static Constructor<?> fastUtilLongObjectHashMap;
+    private static final byte[][] UNIFORM_LIGHT = new byte[16][];
+    private static final long PENDING_LIGHT_EXPIRY = TimeUnit.SECONDS.toNanos(30);
 
-    private final Map<Long, ChunkLight> storedLight = createLongObjectMap();
+    // Light of chunks not sent yet, ordered by last update so expired and the oldest entries are evicted first
+    private final Long2ObjectLinkedOpenHashMap<PendingLight> pendingLight = new Long2ObjectLinkedOpenHashMap<>();
+    // Light of loaded chunks, needed for non-full chunk packets until the chunk is unloaded
+    private final Long2ObjectMap<ChunkLight> retainedLight = new Long2ObjectOpenHashMap<>();
+    private final LongSet loadedChunks = new LongOpenHashSet();
+    private final long maxPendingBytes;
+    private long pendingBytes;
+    private long retainedBytes;
 
     static {
         Arrays.fill(FULL_LIGHT, (byte) 0xFF);
         Arrays.fill(EMPTY_LIGHT, (byte) 0x0);
-        try {
-            fastUtilLongObjectHashMap = Class.forName("it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap").getConstructor();
-        } catch (ClassNotFoundException | NoSuchMethodException ignored) {
+
+        UNIFORM_LIGHT[0] = EMPTY_LIGHT;
+        UNIFORM_LIGHT[15] = FULL_LIGHT;
+        for (int i = 1; i < 15; i++) {
+            byte[] light = new byte[2048];
+            Arrays.fill(light, (byte) (i << 4 | i));
+            UNIFORM_LIGHT[i] = light;
         }
     }
 
     public ChunkLightStorage(UserConnection user) {
         super(user);
+        this.maxPendingBytes = ViaBackwards.getConfig().maxStoredLight1_13() * 1024L;
     }
 
+    /**
+     * Stores a light update, sections without light in the update keep their previously stored light.
+     * <p>
+     * Updates of loaded chunks are merged into their retained light, all others are kept pending
+     * until the chunk is sent or the update expires.
+     *
+     * @param skyLight   sky light per section, null for unchanged sections
+     * @param blockLight block light per section, null for unchanged sections
+     * @param x          chunk x
+     * @param z          chunk z
+     */
     public void setStoredLight(byte[][] skyLight, byte[][] blockLight, int x, int z) {
-        storedLight.put(getChunkSectionIndex(x, z), new ChunkLight(skyLight, blockLight));
+        long index = getChunkSectionIndex(x, z);
+        deduplicate(skyLight);
+        deduplicate(blockLight);
+
+        if (loadedChunks.contains(index)) {
+            ChunkLight light = merge(retainedLight.get(index), skyLight, blockLight);
+            ChunkLight previous = retainedLight.put(index, light);
+            if (previous != null) {
+                retainedBytes -= previous.storedBytes();
+            }
+            retainedBytes += light.storedBytes();
+            return;
+        }
+
+        long time = System.nanoTime();
+        expirePendingLight(time);
+
+        PendingLight previous = pendingLight.remove(index);
+        if (previous != null) {
+            pendingBytes -= previous.light.storedBytes();
+        }
+
+        ChunkLight light = merge(previous != null ? previous.light : null, skyLight, blockLight);
+        pendingLight.putAndMoveToLast(index, new PendingLight(light, time));
+        pendingBytes += light.storedBytes();
+
+        if (maxPendingBytes > 0) {
+            while (pendingBytes > maxPendingBytes && pendingLight.size() > 1) {
+                pendingBytes -= pendingLight.removeFirst().light.storedBytes();
+            }
+        }
+    }
+
+    /**
+     * Marks the chunk as loaded and moves its pending light to the retained light.
+     *
+     * @param x chunk x
+     * @param z chunk z
+     * @return light of the chunk, or null if none has been received
+     */
+    public @Nullable ChunkLight loadChunk(int x, int z) {
+        long index = getChunkSectionIndex(x, z);
+        expirePendingLight(System.nanoTime());
+        loadedChunks.add(index);
+
+        PendingLight pending = pendingLight.remove(index);
+        if (pending == null) {
+            return retainedLight.get(index);
+        }
+
+        pendingBytes -= pending.light.storedBytes();
+        ChunkLight previous = retainedLight.put(index, pending.light);
+        if (previous != null) {
+            retainedBytes -= previous.storedBytes();
+        }
+        retainedBytes += pending.light.storedBytes();
+        return pending.light;
     }
 
-    public ChunkLight getStoredLight(int x, int z) {
-        return storedLight.get(getChunkSectionIndex(x, z));
+    public @Nullable ChunkLight getStoredLight(int x, int z) {
+        long index = getChunkSectionIndex(x, z);
+        ChunkLight light = retainedLight.get(index);
+        if (light != null) {
+            return light;
+        }
+
+        PendingLight pending = pendingLight.get(index);
+        return pending != null ? pending.light : null;
     }
 
     public void clear() {
-        storedLight.clear();
+        pendingLight.clear();
+        retainedLight.clear();
+        loadedChunks.clear();
+        pendingBytes = 0;
+        retainedBytes = 0;
     }
 
     public void unloadChunk(int x, int z) {
-        storedLight.remove(getChunkSectionIndex(x, z));
+        long index = getChunkSectionIndex(x, z);
+        loadedChunks.remove(index);
+
+        ChunkLight light = retainedLight.remove(index);
+        if (light != null) {
+            retainedBytes -= light.storedBytes();
+        }
+
+        PendingLight pending = pendingLight.remove(index);
+        if (pending != null) {
+            pendingBytes -= pending.light.storedBytes();
+        }
+    }
+
+    /**
+     * Returns the approximate memory used by unshared light arrays of chunks that have not been sent yet.
+     *
+     * @return pending light in bytes
+     */
+    public long pendingBytes() {
+        return pendingBytes;
+    }
+
+    /**
+     * Returns the approximate memory used by unshared light arrays of loaded chunks.
+     *
+     * @return retained light in bytes
+     */
+    public long retainedBytes() {
+        return retainedBytes;
+    }
+
+    public int pendingChunks() {
+        return pendingLight.size();
+    }
+
+    public int retainedChunks() {
+        return retainedLight.size();
+    }
+
+    private void expirePendingLight(long time) {
+        while (!pendingLight.isEmpty() && time - pendingLight.get(pendingLight.firstLongKey()).time > PENDING_LIGHT_EXPIRY) {
+            pendingBytes -= pendingLight.removeFirst().light.storedBytes();
+        }
+    }
+
+    private static ChunkLight merge(@Nullable ChunkLight previous, byte[][] skyLight, byte[][] blockLight) {
+        if (previous != null) {
+            for (int i = 0; i < skyLight.length; i++) {
+                if (skyLight[i] == null) {
+                    skyLight[i] = previous.skyLight[i];
+                }
+                if (blockLight[i] == null) {
+                    blockLight[i] = previous.blockLight[i];
+                }
+            }
+        }
+        return new ChunkLight(skyLight, blockLight);
     }
 
     private long getChunkSectionIndex(int x, int z) {
         return ((x & 0x3FFFFFFL) << 38) | (z & 0x3FFFFFFL);
     }
 
-    private Map<Long, ChunkLight> createLongObjectMap() {
-        if (fastUtilLongObjectHashMap != null) {
-            try {
-                return (Map<Long, ChunkLight>) fastUtilLongObjectHashMap.newInstance();
-            } catch (IllegalAccessException | InstantiationException | InvocationTargetException e) {
-                e.printStackTrace();
+    /**
+     * Returns whether the given light array is shared between sections and must be copied before modification.
+     *
+     * @param light light nibble array
+     * @return true if the array is shared
+     */
+    public static boolean isSharedLight(byte[] light) {
+        return light.length != 0 && light == UNIFORM_LIGHT[light[0] & 0xF];
+    }
+
+    /**
+     * Replaces arrays of a single light level with shared instances.
+     */
+    private static void deduplicate(byte[][] sections) {
+        for (int i = 0; i < sections.length; i++) {
+            byte[] light = sections[i];
+            if (light != null && light.length == 2048) {
+                sections[i] = uniformOrSelf(light);
             }
         }
-        return new HashMap<>();
+    }
+
+    private static byte[] uniformOrSelf(byte[] light) {
+        byte value = light[0];
+        if ((value & 0xF) != ((value >> 4) & 0xF)) {
+            return light;
+        }
+
+        for (int i = 1; i < light.length; i++) {
+            if (light[i] != value) {
+                return light;
+            }
+        }
+        return UNIFORM_LIGHT[value & 0xF];
+    }
+
+    private static final class PendingLight {
+        private final ChunkLight light;
+        private final long time;
+
+        private PendingLight(ChunkLight light, long time) {
+            this.light = light;
+            this.time = time;
+        }
     }
 
     public static class ChunkLight {
         private final byte[][] skyLight;
         private final byte[][] blockLight;
+        private final int storedBytes;
 
         public ChunkLight(byte[][] skyLight, byte[][] blockLight) {
             this.skyLight = skyLight;
             this.blockLight = blockLight;
+            this.storedBytes = unsharedBytes(skyLight) + unsharedBytes(blockLight);
         }
 
         public byte[][] getSkyLight() {
@@ -93,5 +282,19 @@ public class ChunkLightStorage extends StoredObject {
         public byte[][] getBlockLight() {
             return blockLight;
         }
+
+        private int storedBytes() {
+            return storedBytes;
+        }
+
+        private static int unsharedBytes(byte[][] sections) {
+            int bytes = 0;
+            for (byte[] light : sections) {
+                if (light != null && !isSharedLight(light)) {
+                    bytes += light.length;
+                }
+            }
+            return bytes;
+        }
     }
 }
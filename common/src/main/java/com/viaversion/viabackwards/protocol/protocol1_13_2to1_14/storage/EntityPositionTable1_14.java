@@ -17,7 +17,7 @@
  */
 package com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage;
 
-import com.viaversion.viabackwards.api.entities.storage.EntityPositionStorage;
+import com.viaversion.viabackwards.api.entities.storage.EntityPositionTable;
 
-public class EntityPositionStorage1_14 extends EntityPositionStorage {
+public class EntityPositionTable1_14 extends EntityPositionTable {
 }
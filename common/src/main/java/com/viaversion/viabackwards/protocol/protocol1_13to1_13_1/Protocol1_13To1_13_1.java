@@ -59,7 +59,10 @@ public class Protocol1_13To1_13_1 extends BackwardsProtocol<ClientboundPackets1_
 
     @Override
     protected void registerPackets() {
-        executeAsyncAfterLoaded(Protocol1_13_1To1_13.class, MAPPINGS::load);
+        executeAsyncAfterLoaded(Protocol1_13_1To1_13.class, () -> {
+            MAPPINGS.load();
+            TranslatableRewriter.loadTranslatables();
+        });
 
         entityRewriter.register();
         itemRewriter.register();
@@ -228,6 +231,7 @@ public class Protocol1_13To1_13_1 extends BackwardsProtocol<ClientboundPackets1_
 
     @Override
     public void init(UserConnection user) {
+        super.init(user);
         user.addEntityTracker(getClass(), new EntityTrackerBase(user, Entity1_13Types.EntityType.PLAYER));
 
         if (!user.has(ClientWorld.class)) {
@@ -52,7 +52,10 @@ public class Protocol1_14_4To1_15 extends BackwardsProtocol<ClientboundPackets1_
 
     @Override
     protected void registerPackets() {
-        executeAsyncAfterLoaded(Protocol1_15To1_14_4.class, MAPPINGS::load);
+        executeAsyncAfterLoaded(Protocol1_15To1_14_4.class, () -> {
+            MAPPINGS.load();
+            TranslatableRewriter.loadTranslatables();
+        });
 
         translatableRewriter.registerBossBar(ClientboundPackets1_15.BOSSBAR);
         translatableRewriter.registerComponentPacket(ClientboundPackets1_15.CHAT_MESSAGE);
@@ -104,6 +107,7 @@ public class Protocol1_14_4To1_15 extends BackwardsProtocol<ClientboundPackets1_
 
     @Override
     public void init(UserConnection user) {
+        super.init(user);
         user.put(new ImmediateRespawn());
         user.addEntityTracker(getClass(), new EntityTrackerBase(user, Entity1_15Types.PLAYER));
     }
@@ -34,6 +34,9 @@ import com.viaversion.viaversion.rewriter.BlockRewriter;
 
 public class BlockItemPackets1_15 extends com.viaversion.viabackwards.api.rewriters.ItemRewriter<Protocol1_14_4To1_15> {
 
+    private static final Chunk1_15Type CHUNK_TYPE_1_15 = new Chunk1_15Type();
+    private static final Chunk1_14Type CHUNK_TYPE_1_14 = new Chunk1_14Type();
+
     public BlockItemPackets1_15(Protocol1_14_4To1_15 protocol) {
         super(protocol);
     }
@@ -71,8 +74,8 @@ public class BlockItemPackets1_15 extends com.viaversion.viabackwards.api.rewrit
                 handler(new PacketHandler() {
                     @Override
                     public void handle(PacketWrapper wrapper) throws Exception {
-                        Chunk chunk = wrapper.read(new Chunk1_15Type());
-                        wrapper.write(new Chunk1_14Type(), chunk);
+                        Chunk chunk = wrapper.read(CHUNK_TYPE_1_15);
+                        wrapper.write(CHUNK_TYPE_1_14, chunk);
 
                         if (chunk.isFullChunk()) {
                             int[] biomeData = chunk.getBiomeData();
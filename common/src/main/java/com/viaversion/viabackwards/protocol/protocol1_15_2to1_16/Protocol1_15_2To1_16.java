@@ -35,8 +35,6 @@ import com.viaversion.viaversion.api.protocol.remapper.PacketRemapper;
 import com.viaversion.viaversion.api.rewriter.EntityRewriter;
 import com.viaversion.viaversion.api.type.Type;
 import com.viaversion.viaversion.data.entity.EntityTrackerBase;
-import com.viaversion.viaversion.libs.gson.JsonElement;
-import com.viaversion.viaversion.libs.gson.JsonObject;
 import com.viaversion.viaversion.protocols.protocol1_14to1_13_2.ServerboundPackets1_14;
 import com.viaversion.viaversion.protocols.protocol1_15to1_14_4.ClientboundPackets1_15;
 import com.viaversion.viaversion.protocols.protocol1_16to1_15_2.ClientboundPackets1_16;
@@ -45,7 +43,6 @@ import com.viaversion.viaversion.protocols.protocol1_16to1_15_2.ServerboundPacke
 import com.viaversion.viaversion.protocols.protocol1_9_3to1_9_1_2.storage.ClientWorld;
 import com.viaversion.viaversion.rewriter.StatisticsRewriter;
 import com.viaversion.viaversion.rewriter.TagRewriter;
-import com.viaversion.viaversion.util.GsonUtil;
 
 import java.util.UUID;
 
@@ -62,7 +59,10 @@ public class Protocol1_15_2To1_16 extends BackwardsProtocol<ClientboundPackets1_
 
     @Override
     protected void registerPackets() {
-        executeAsyncAfterLoaded(Protocol1_16To1_15_2.class, MAPPINGS::load);
+        executeAsyncAfterLoaded(Protocol1_16To1_15_2.class, () -> {
+            MAPPINGS.load();
+            TranslatableRewriter.loadTranslatables();
+        });
 
         translatableRewriter.registerBossBar(ClientboundPackets1_16.BOSSBAR);
         translatableRewriter.registerCombatEvent(ClientboundPackets1_16.COMBAT_EVENT);
@@ -70,27 +70,13 @@ public class Protocol1_15_2To1_16 extends BackwardsProtocol<ClientboundPackets1_
         translatableRewriter.registerTabList(ClientboundPackets1_16.TAB_LIST);
         translatableRewriter.registerTitle(ClientboundPackets1_16.TITLE);
         translatableRewriter.registerPing();
+        translatableRewriter.registerStatus();
 
         new CommandRewriter1_16(this).registerDeclareCommands(ClientboundPackets1_16.DECLARE_COMMANDS);
 
         (blockItemPackets = new BlockItemPackets1_16(this)).register();
         entityRewriter.register();
 
-        registerClientbound(State.STATUS, 0x00, 0x00, new PacketRemapper() {
-            @Override
-            public void registerMap() {
-                handler(wrapper -> {
-                    String original = wrapper.passthrough(Type.STRING);
-                    JsonObject object = GsonUtil.getGson().fromJson(original, JsonObject.class);
-                    JsonElement description = object.get("description");
-                    if (description == null) return;
-
-                    translatableRewriter.processText(description);
-                    wrapper.set(Type.STRING, 0, object.toString());
-                });
-            }
-        });
-
         registerClientbound(ClientboundPackets1_16.CHAT_MESSAGE, new PacketRemapper() {
             @Override
             public void registerMap() {
@@ -196,6 +182,7 @@ public class Protocol1_15_2To1_16 extends BackwardsProtocol<ClientboundPackets1_
 
     @Override
     public void init(UserConnection user) {
+        super.init(user);
         if (!user.has(ClientWorld.class)) {
             user.put(new ClientWorld(user));
         }
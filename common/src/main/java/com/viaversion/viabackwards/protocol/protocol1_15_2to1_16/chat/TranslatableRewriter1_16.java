@@ -51,6 +51,12 @@ public class TranslatableRewriter1_16 extends TranslatableRewriter {
         super(protocol);
     }
 
+    @Override
+    public boolean mayNeedProcessing(String json) {
+        // Hex colors and hover events are converted as well
+        return super.mayNeedProcessing(json) || json.indexOf('#') != -1 || json.contains("hoverEvent");
+    }
+
     @Override
     public void processText(JsonElement value) {
         super.processText(value);
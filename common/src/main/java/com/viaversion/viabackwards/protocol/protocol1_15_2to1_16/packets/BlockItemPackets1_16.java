@@ -23,6 +23,7 @@ import com.viaversion.viabackwards.api.rewriters.MapColorRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_15_2to1_16.Protocol1_15_2To1_16;
 import com.viaversion.viabackwards.protocol.protocol1_15_2to1_16.data.MapColorRewrites;
 import com.viaversion.viabackwards.protocol.protocol1_16_1to1_16_2.storage.BiomeStorage;
+import com.viaversion.viabackwards.utils.HeightmapUtil;
 import com.viaversion.viaversion.api.minecraft.Position;
 import com.viaversion.viaversion.api.minecraft.chunks.Chunk;
 import com.viaversion.viaversion.api.minecraft.chunks.ChunkSection;
@@ -45,7 +46,6 @@ import com.viaversion.viaversion.protocols.protocol1_16to1_15_2.ClientboundPacke
 import com.viaversion.viaversion.protocols.protocol1_16to1_15_2.packets.InventoryPackets;
 import com.viaversion.viaversion.protocols.protocol1_16to1_15_2.types.Chunk1_16Type;
 import com.viaversion.viaversion.rewriter.BlockRewriter;
-import com.viaversion.viaversion.util.CompactArrayUtil;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -54,6 +54,9 @@ import java.util.UUID;
 
 public class BlockItemPackets1_16 extends com.viaversion.viabackwards.api.rewriters.ItemRewriter<Protocol1_15_2To1_16> {
 
+    private static final Chunk1_16Type CHUNK_TYPE_1_16 = new Chunk1_16Type();
+    private static final Chunk1_15Type CHUNK_TYPE_1_15 = new Chunk1_15Type();
+
     private EnchantmentRewriter enchantmentRewriter;
 
     public BlockItemPackets1_16(Protocol1_15_2To1_16 protocol) {
@@ -152,8 +155,8 @@ public class BlockItemPackets1_16 extends com.viaversion.viabackwards.api.rewrit
             @Override
             public void registerMap() {
                 handler(wrapper -> {
-                    Chunk chunk = wrapper.read(new Chunk1_16Type());
-                    wrapper.write(new Chunk1_15Type(), chunk);
+                    Chunk chunk = wrapper.read(CHUNK_TYPE_1_16);
+                    wrapper.write(CHUNK_TYPE_1_15, chunk);
 
                     for (int i = 0; i < chunk.getSections().length; i++) {
                         ChunkSection section = chunk.getSections()[i];
@@ -167,9 +170,7 @@ public class BlockItemPackets1_16 extends com.viaversion.viabackwards.api.rewrit
                     CompoundTag heightMaps = chunk.getHeightMap();
                     for (Tag heightMapTag : heightMaps.values()) {
                         LongArrayTag heightMap = (LongArrayTag) heightMapTag;
-                        int[] heightMapData = new int[256];
-                        CompactArrayUtil.iterateCompactArrayWithPadding(9, heightMapData.length, heightMap.getValue(), (i, v) -> heightMapData[i] = v);
-                        heightMap.setValue(CompactArrayUtil.createCompactArray(9, heightMapData.length, i -> heightMapData[i]));
+                        heightMap.setValue(HeightmapUtil.unpad(heightMap.getValue(), 9));
                     }
 
                     if (chunk.isBiomeData()) {
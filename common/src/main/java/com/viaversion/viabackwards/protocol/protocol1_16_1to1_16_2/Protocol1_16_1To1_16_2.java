@@ -19,8 +19,10 @@ package com.viaversion.viabackwards.protocol.protocol1_16_1to1_16_2;
 
 import com.viaversion.viabackwards.api.BackwardsProtocol;
 import com.viaversion.viabackwards.api.data.BackwardsMappings;
+import com.viaversion.viabackwards.api.data.DataLoadReport;
 import com.viaversion.viabackwards.api.rewriters.SoundRewriter;
 import com.viaversion.viabackwards.api.rewriters.TranslatableRewriter;
+import com.viaversion.viabackwards.protocol.protocol1_16_1to1_16_2.data.BiomeMappings;
 import com.viaversion.viabackwards.protocol.protocol1_16_1to1_16_2.data.CommandRewriter1_16_2;
 import com.viaversion.viabackwards.protocol.protocol1_16_1to1_16_2.packets.BlockItemPackets1_16_2;
 import com.viaversion.viabackwards.protocol.protocol1_16_1to1_16_2.packets.EntityPackets1_16_2;
@@ -56,7 +58,11 @@ public class Protocol1_16_1To1_16_2 extends BackwardsProtocol<ClientboundPackets
 
     @Override
     protected void registerPackets() {
-        executeAsyncAfterLoaded(Protocol1_16_2To1_16_1.class, MAPPINGS::load);
+        executeAsyncAfterLoaded(Protocol1_16_2To1_16_1.class, () -> {
+            MAPPINGS.load();
+            TranslatableRewriter.loadTranslatables();
+            DataLoadReport.time("biome mappings", BiomeMappings::init);
+        });
 
         translatableRewriter.registerBossBar(ClientboundPackets1_16_2.BOSSBAR);
         translatableRewriter.registerCombatEvent(ClientboundPackets1_16_2.COMBAT_EVENT);
@@ -137,6 +143,7 @@ public class Protocol1_16_1To1_16_2 extends BackwardsProtocol<ClientboundPackets
 
     @Override
     public void init(UserConnection user) {
+        super.init(user);
         user.put(new BiomeStorage());
         user.addEntityTracker(this.getClass(), new EntityTrackerBase(user, Entity1_16_2Types.PLAYER));
     }
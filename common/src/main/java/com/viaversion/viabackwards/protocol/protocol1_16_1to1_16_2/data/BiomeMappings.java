@@ -32,7 +32,7 @@ public final class BiomeMappings {
     private static final Object2IntMap<String> MODERN_TO_LEGACY_ID = new Object2IntOpenHashMap<>();
     private static final Object2IntMap<String> LEGACY_BIOMES = new Object2IntOpenHashMap<>();
 
-    static {
+    public static void init() {
         LEGACY_BIOMES.defaultReturnValue(-1);
         MODERN_TO_LEGACY_ID.defaultReturnValue(-1);
 
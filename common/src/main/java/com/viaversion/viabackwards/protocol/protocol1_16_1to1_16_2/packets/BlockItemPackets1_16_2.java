@@ -38,6 +38,10 @@ import com.viaversion.viaversion.rewriter.BlockRewriter;
 
 public class BlockItemPackets1_16_2 extends com.viaversion.viabackwards.api.rewriters.ItemRewriter<Protocol1_16_1To1_16_2> {
 
+    // Chunks are handed between protocols as decoded objects, these are only used to decode/encode at the ends of the pipeline
+    private static final Chunk1_16_2Type CHUNK_TYPE_1_16_2 = new Chunk1_16_2Type();
+    private static final Chunk1_16Type CHUNK_TYPE_1_16 = new Chunk1_16Type();
+
     public BlockItemPackets1_16_2(Protocol1_16_1To1_16_2 protocol) {
         super(protocol);
     }
@@ -81,8 +85,8 @@ public class BlockItemPackets1_16_2 extends com.viaversion.viabackwards.api.rewr
             @Override
             public void registerMap() {
                 handler(wrapper -> {
-                    Chunk chunk = wrapper.read(new Chunk1_16_2Type());
-                    wrapper.write(new Chunk1_16Type(), chunk);
+                    Chunk chunk = wrapper.read(CHUNK_TYPE_1_16_2);
+                    wrapper.write(CHUNK_TYPE_1_16, chunk);
 
                     chunk.setIgnoreOldLightData(true);
                     for (int i = 0; i < chunk.getSections().length; i++) {
@@ -66,7 +66,10 @@ public final class Protocol1_16_4To1_17 extends BackwardsProtocol<ClientboundPac
 
     @Override
     protected void registerPackets() {
-        executeAsyncAfterLoaded(Protocol1_17To1_16_4.class, MAPPINGS::load);
+        executeAsyncAfterLoaded(Protocol1_17To1_16_4.class, () -> {
+            MAPPINGS.load();
+            TranslatableRewriter.loadTranslatables();
+        });
 
         translatableRewriter.registerComponentPacket(ClientboundPackets1_17.CHAT_MESSAGE);
         translatableRewriter.registerBossBar(ClientboundPackets1_17.BOSSBAR);
@@ -248,6 +251,7 @@ public final class Protocol1_16_4To1_17 extends BackwardsProtocol<ClientboundPac
 
     @Override
     public void init(UserConnection user) {
+        super.init(user);
         addEntityTracker(user, new EntityTrackerBase(user, Entity1_17Types.PLAYER));
         user.put(new PingRequests());
         user.put(new PlayerLastCursorItem());
@@ -20,16 +20,19 @@ package com.viaversion.viabackwards.protocol.protocol1_16_4to1_17.packets;
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.rewriters.ItemRewriter;
 import com.viaversion.viabackwards.api.rewriters.MapColorRewriter;
+import com.viaversion.viabackwards.api.type.ByteArraySliceType;
 import com.viaversion.viabackwards.protocol.protocol1_16_4to1_17.Protocol1_16_4To1_17;
 import com.viaversion.viabackwards.protocol.protocol1_16_4to1_17.data.MapColorRewrites;
 import com.viaversion.viabackwards.protocol.protocol1_16_4to1_17.storage.PingRequests;
 import com.viaversion.viabackwards.protocol.protocol1_16_4to1_17.storage.PlayerLastCursorItem;
+import com.viaversion.viabackwards.utils.HeightmapUtil;
 import com.viaversion.viaversion.api.data.entity.EntityTracker;
 import com.viaversion.viaversion.api.minecraft.BlockChangeRecord;
 import com.viaversion.viaversion.api.minecraft.chunks.Chunk;
 import com.viaversion.viaversion.api.minecraft.chunks.ChunkSection;
 import com.viaversion.viaversion.api.minecraft.item.Item;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
+import com.viaversion.viaversion.api.protocol.remapper.PacketHandler;
 import com.viaversion.viaversion.api.protocol.remapper.PacketRemapper;
 import com.viaversion.viaversion.api.type.Type;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.CompoundTag;
@@ -44,16 +47,15 @@ import com.viaversion.viaversion.protocols.protocol1_17to1_16_4.ClientboundPacke
 import com.viaversion.viaversion.protocols.protocol1_17to1_16_4.ServerboundPackets1_17;
 import com.viaversion.viaversion.protocols.protocol1_17to1_16_4.types.Chunk1_17Type;
 import com.viaversion.viaversion.rewriter.BlockRewriter;
-import com.viaversion.viaversion.util.CompactArrayUtil;
 import com.viaversion.viaversion.util.MathUtil;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
-import java.util.List;
 
 public final class BlockItemPackets1_17 extends ItemRewriter<Protocol1_16_4To1_17> {
 
+    private static final Chunk1_16_2Type CHUNK_TYPE_1_16_2 = new Chunk1_16_2Type();
+
     public BlockItemPackets1_17(Protocol1_16_4To1_17 protocol) {
         super(protocol);
     }
@@ -252,42 +254,35 @@ public final class BlockItemPackets1_17 extends ItemRewriter<Protocol1_16_4To1_1
                     wrapper.write(Type.VAR_INT, cutLightMask(emptySkyLightMask, startFromSection));
                     wrapper.write(Type.VAR_INT, cutLightMask(emptyBlockLightMask, startFromSection));
 
-                    writeLightArrays(wrapper, BitSet.valueOf(skyLightMask), cutSkyLightMask, startFromSection, tracker.currentWorldSectionHeight());
-                    writeLightArrays(wrapper, BitSet.valueOf(blockLightMask), cutBlockLightMask, startFromSection, tracker.currentWorldSectionHeight());
+                    writeLightArrays(wrapper, skyLightMask, cutSkyLightMask, startFromSection, tracker.currentWorldSectionHeight());
+                    writeLightArrays(wrapper, blockLightMask, cutBlockLightMask, startFromSection, tracker.currentWorldSectionHeight());
                 });
             }
 
-            private void writeLightArrays(PacketWrapper wrapper, BitSet bitMask, int cutBitMask,
+            private void writeLightArrays(PacketWrapper wrapper, long[] bitMask, int cutBitMask,
                                           int startFromSection, int sectionHeight) throws Exception {
                 wrapper.read(Type.VAR_INT); // Length - throw it away
 
-                List<byte[]> light = new ArrayList<>();
-
-                // Remove lower bounds
+                // Remove lower bounds, skipped as slices of the input buffer without copying them
                 for (int i = 0; i < startFromSection; i++) {
-                    if (bitMask.get(i)) {
-                        wrapper.read(Type.BYTE_ARRAY_PRIMITIVE);
+                    if (isSet(bitMask, i)) {
+                        wrapper.read(ByteArraySliceType.INSTANCE);
                     }
                 }
 
-                // Add the important 18 sections
+                // Add the important 18 sections, older protocols read these as byte arrays
                 for (int i = 0; i < 18; i++) {
                     if (isSet(cutBitMask, i)) {
-                        light.add(wrapper.read(Type.BYTE_ARRAY_PRIMITIVE));
+                        wrapper.passthrough(Type.BYTE_ARRAY_PRIMITIVE);
                     }
                 }
 
                 // Remove upper bounds
                 for (int i = startFromSection + 18; i < sectionHeight + 2; i++) {
-                    if (bitMask.get(i)) {
-                        wrapper.read(Type.BYTE_ARRAY_PRIMITIVE);
+                    if (isSet(bitMask, i)) {
+                        wrapper.read(ByteArraySliceType.INSTANCE);
                     }
                 }
-
-                // Aaand we're done
-                for (byte[] bytes : light) {
-                    wrapper.write(Type.BYTE_ARRAY_PRIMITIVE, bytes);
-                }
             }
 
             private boolean isSet(int mask, int i) {
@@ -340,26 +335,24 @@ public final class BlockItemPackets1_17 extends ItemRewriter<Protocol1_16_4To1_1
                     int currentWorldSectionHeight = tracker.currentWorldSectionHeight();
 
                     Chunk chunk = wrapper.read(new Chunk1_17Type(currentWorldSectionHeight));
-                    wrapper.write(new Chunk1_16_2Type(), chunk);
+                    wrapper.write(CHUNK_TYPE_1_16_2, chunk);
 
                     // Cut sections
                     int startFromSection = Math.max(0, -(tracker.currentMinY() >> 4));
                     chunk.setBiomeData(Arrays.copyOfRange(chunk.getBiomeData(), startFromSection * 64, (startFromSection * 64) + 1024));
 
-                    chunk.setBitmask(cutMask(chunk.getChunkMask(), startFromSection, false));
+                    chunk.setBitmask(cutMask(chunk.getChunkMask(), startFromSection));
                     chunk.setChunkMask(null);
 
                     ChunkSection[] sections = Arrays.copyOfRange(chunk.getSections(), startFromSection, startFromSection + 16);
                     chunk.setSections(sections);
 
                     CompoundTag heightMaps = chunk.getHeightMap();
+                    int bitsPerEntry = MathUtil.ceilLog2((currentWorldSectionHeight << 4) + 1);
                     for (Tag heightMapTag : heightMaps.values()) {
                         LongArrayTag heightMap = (LongArrayTag) heightMapTag;
-                        int[] heightMapData = new int[256];
-                        int bitsPerEntry = MathUtil.ceilLog2((currentWorldSectionHeight << 4) + 1);
                         // Shift back to 0 based and clamp to normal height with 9 bits
-                        CompactArrayUtil.iterateCompactArrayWithPadding(bitsPerEntry, heightMapData.length, heightMap.getValue(), (i, v) -> heightMapData[i] = MathUtil.clamp(v + tracker.currentMinY(), 0, 255));
-                        heightMap.setValue(CompactArrayUtil.createCompactArrayWithPadding(9, heightMapData.length, i -> heightMapData[i]));
+                        heightMap.setValue(HeightmapUtil.repackPadded(heightMap.getValue(), bitsPerEntry, 9, tracker.currentMinY(), 0, 255));
                     }
 
                     for (int i = 0; i < 16; i++) {
@@ -404,6 +397,7 @@ public final class BlockItemPackets1_17 extends ItemRewriter<Protocol1_16_4To1_1
             }
         });
 
+        PacketHandler mapColorHandler = MapColorRewriter.getRewriteHandler(MapColorRewrites::getMappedColor);
         protocol.registerClientbound(ClientboundPackets1_17.MAP_DATA, new PacketRemapper() {
             @Override
             public void registerMap() {
@@ -416,7 +410,7 @@ public final class BlockItemPackets1_17 extends ItemRewriter<Protocol1_16_4To1_1
                     if (!hasMarkers) {
                         wrapper.write(Type.VAR_INT, 0); // Array size
                     } else {
-                        MapColorRewriter.getRewriteHandler(MapColorRewrites::getMappedColor).handle(wrapper);
+                        mapColorHandler.handle(wrapper);
                     }
                 });
             }
@@ -424,15 +418,24 @@ public final class BlockItemPackets1_17 extends ItemRewriter<Protocol1_16_4To1_1
     }
 
     private int cutLightMask(long[] mask, int startFromSection) {
-        if (mask.length == 0) return 0;
-        return cutMask(BitSet.valueOf(mask), startFromSection, true);
+        int cutMask = 0;
+        // Light masks have a section below and above the 16 main sections
+        for (int i = startFromSection, j = 0; i < startFromSection + 18; i++, j++) {
+            if (isSet(mask, i)) {
+                cutMask |= (1 << j);
+            }
+        }
+        return cutMask;
     }
 
-    private int cutMask(BitSet mask, int startFromSection, boolean lightMask) {
+    private static boolean isSet(long[] mask, int i) {
+        int index = i >> 6;
+        return index < mask.length && (mask[index] & (1L << i)) != 0;
+    }
+
+    private int cutMask(BitSet mask, int startFromSection) {
         int cutMask = 0;
-        // Light masks have a section below and above the 16 main sections
-        int to = startFromSection + (lightMask ? 18 : 16);
-        for (int i = startFromSection, j = 0; i < to; i++, j++) {
+        for (int i = startFromSection, j = 0; i < startFromSection + 16; i++, j++) {
             if (mask.get(i)) {
                 cutMask |= (1 << j);
             }
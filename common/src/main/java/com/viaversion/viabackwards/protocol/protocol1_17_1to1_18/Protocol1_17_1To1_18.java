@@ -49,7 +49,10 @@ public final class Protocol1_17_1To1_18 extends BackwardsProtocol<ClientboundPac
 
     @Override
     protected void registerPackets() {
-        executeAsyncAfterLoaded(Protocol1_18To1_17_1.class, MAPPINGS::load);
+        executeAsyncAfterLoaded(Protocol1_18To1_17_1.class, () -> {
+            MAPPINGS.load();
+            TranslatableRewriter.loadTranslatables();
+        });
 
         translatableRewriter.registerComponentPacket(ClientboundPackets1_18.CHAT_MESSAGE);
         translatableRewriter.registerComponentPacket(ClientboundPackets1_18.ACTIONBAR);
@@ -136,6 +139,7 @@ public final class Protocol1_17_1To1_18 extends BackwardsProtocol<ClientboundPac
 
     @Override
     public void init(final UserConnection connection) {
+        super.init(connection);
         addEntityTracker(connection, new EntityTrackerBase(connection, Entity1_17Types.PLAYER));
     }
 
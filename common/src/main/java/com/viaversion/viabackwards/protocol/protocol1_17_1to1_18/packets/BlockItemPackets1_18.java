@@ -18,6 +18,7 @@
 package com.viaversion.viabackwards.protocol.protocol1_17_1to1_18.packets;
 
 import com.viaversion.viabackwards.api.rewriters.ItemRewriter;
+import com.viaversion.viabackwards.api.type.ByteArraySliceType;
 import com.viaversion.viabackwards.protocol.protocol1_17_1to1_18.Protocol1_17_1To1_18;
 import com.viaversion.viabackwards.protocol.protocol1_17_1to1_18.data.BlockEntityIds;
 import com.viaversion.viaversion.api.data.ParticleMappings;
@@ -224,27 +225,12 @@ public final class BlockItemPackets1_18 extends ItemRewriter<Protocol1_17_1To1_1
                     wrapper.write(new Chunk1_17Type(tracker.currentWorldSectionHeight()), chunk);
 
                     // Create and send light packet first
-                    final PacketWrapper lightPacket = wrapper.create(ClientboundPackets1_17_1.UPDATE_LIGHT);
+                    // Trust edges, masks and light arrays are the same in both versions, so the rest of the
+                    // chunk packet is used as the light packet's input buffer, older protocols read from it as usual
+                    final PacketWrapper lightPacket = PacketWrapper.create(ClientboundPackets1_17_1.UPDATE_LIGHT,
+                            wrapper.read(ByteArraySliceType.REMAINING), wrapper.user());
                     lightPacket.write(Type.VAR_INT, chunk.getX());
                     lightPacket.write(Type.VAR_INT, chunk.getZ());
-                    lightPacket.write(Type.BOOLEAN, wrapper.read(Type.BOOLEAN)); // Trust edges
-                    lightPacket.write(Type.LONG_ARRAY_PRIMITIVE, wrapper.read(Type.LONG_ARRAY_PRIMITIVE)); // Sky light mask
-                    lightPacket.write(Type.LONG_ARRAY_PRIMITIVE, wrapper.read(Type.LONG_ARRAY_PRIMITIVE)); // Block light mask
-                    lightPacket.write(Type.LONG_ARRAY_PRIMITIVE, wrapper.read(Type.LONG_ARRAY_PRIMITIVE)); // Empty sky light mask
-                    lightPacket.write(Type.LONG_ARRAY_PRIMITIVE, wrapper.read(Type.LONG_ARRAY_PRIMITIVE)); // Empty block light mask
-
-                    final int skyLightLength = wrapper.read(Type.VAR_INT);
-                    lightPacket.write(Type.VAR_INT, skyLightLength);
-                    for (int i = 0; i < skyLightLength; i++) {
-                        lightPacket.write(Type.BYTE_ARRAY_PRIMITIVE, wrapper.read(Type.BYTE_ARRAY_PRIMITIVE));
-                    }
-
-                    final int blockLightLength = wrapper.read(Type.VAR_INT);
-                    lightPacket.write(Type.VAR_INT, blockLightLength);
-                    for (int i = 0; i < blockLightLength; i++) {
-                        lightPacket.write(Type.BYTE_ARRAY_PRIMITIVE, wrapper.read(Type.BYTE_ARRAY_PRIMITIVE));
-                    }
-
                     lightPacket.send(Protocol1_17_1To1_18.class);
                 });
             }
@@ -71,6 +71,7 @@ public final class Protocol1_18_2To1_19 extends BackwardsProtocol<ClientboundPac
     protected void registerPackets() {
         executeAsyncAfterLoaded(Protocol1_19To1_18_2.class, () -> {
             MAPPINGS.load();
+            TranslatableRewriter.loadTranslatables();
             entityRewriter.onMappingDataLoaded();
         });
 
@@ -289,6 +290,7 @@ public final class Protocol1_18_2To1_19 extends BackwardsProtocol<ClientboundPac
 
     @Override
     public void init(final UserConnection user) {
+        super.init(user);
         user.put(new DimensionRegistryStorage());
         addEntityTracker(user, new EntityTrackerBase(user, Entity1_19Types.PLAYER, true));
     }
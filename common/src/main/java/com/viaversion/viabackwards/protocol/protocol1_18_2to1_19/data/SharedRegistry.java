@@ -0,0 +1,118 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2022 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.data;
+
+import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectMap;
+import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectOpenHashMap;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.CompoundTag;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.ListTag;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.NumberTag;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.StringTag;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.Tag;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Dimension types and chat types of a join game registry, shared between all connections that received the same registry.
+ * <p>
+ * Instances are immutable, tags returned by {@link #dimension(String)} and {@link #chatType(int)} must not be modified.
+ */
+public final class SharedRegistry {
+
+    private static final Map<SharedRegistry, WeakReference<SharedRegistry>> POOL = new WeakHashMap<>();
+    private final ListTag dimensionTypes;
+    private final ListTag chatTypes;
+    private final int hashCode;
+    private Map<String, CompoundTag> dimensions;
+    private Int2ObjectMap<CompoundTag> chatTypesById;
+
+    private SharedRegistry(final ListTag dimensionTypes, final ListTag chatTypes) {
+        this.dimensionTypes = dimensionTypes;
+        this.chatTypes = chatTypes;
+        this.hashCode = 31 * dimensionTypes.hashCode() + chatTypes.hashCode();
+    }
+
+    /**
+     * Returns the shared registry with the same content as the given tags, creating it from copies of them if not present yet.
+     *
+     * @param dimensionTypes value of the dimension type registry
+     * @param chatTypes      value of the chat type registry
+     * @return shared registry
+     */
+    public static SharedRegistry intern(final ListTag dimensionTypes, final ListTag chatTypes) {
+        final SharedRegistry lookup = new SharedRegistry(dimensionTypes, chatTypes);
+        synchronized (POOL) {
+            final WeakReference<SharedRegistry> reference = POOL.get(lookup);
+            final SharedRegistry registry = reference != null ? reference.get() : null;
+            if (registry != null) {
+                return registry;
+            }
+
+            // The given tags are part of the packet and may still be changed, so only store copies
+            final SharedRegistry copy = new SharedRegistry(dimensionTypes.clone(), chatTypes.clone());
+            copy.index();
+            POOL.put(copy, new WeakReference<>(copy));
+            return copy;
+        }
+    }
+
+    private void index() {
+        dimensions = new HashMap<>(dimensionTypes.size());
+        for (final Tag dimension : dimensionTypes) {
+            final CompoundTag dimensionCompound = (CompoundTag) dimension;
+            final StringTag nameTag = dimensionCompound.get("name");
+            dimensions.put(nameTag.getValue(), dimensionCompound.get("element"));
+        }
+
+        chatTypesById = new Int2ObjectOpenHashMap<>(chatTypes.size());
+        for (final Tag chatType : chatTypes) {
+            final CompoundTag chatTypeCompound = (CompoundTag) chatType;
+            final NumberTag idTag = chatTypeCompound.get("id");
+            chatTypesById.put(idTag.asInt(), chatTypeCompound);
+        }
+    }
+
+    public @Nullable CompoundTag dimension(final String dimensionKey) {
+        return dimensions.get(dimensionKey);
+    }
+
+    public @Nullable CompoundTag chatType(final int id) {
+        return chatTypesById.get(id);
+    }
+
+    public boolean hasChatTypes() {
+        return !chatTypesById.isEmpty();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final SharedRegistry that = (SharedRegistry) o;
+        return hashCode == that.hashCode && dimensionTypes.equals(that.dimensionTypes) && chatTypes.equals(that.chatTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
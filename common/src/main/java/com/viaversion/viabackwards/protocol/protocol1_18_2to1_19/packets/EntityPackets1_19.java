@@ -19,6 +19,7 @@ package com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.packets;
 
 import com.viaversion.viabackwards.api.rewriters.EntityRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.Protocol1_18_2To1_19;
+import com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.data.SharedRegistry;
 import com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.storage.DimensionRegistryStorage;
 import com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.storage.StoredPainting;
 import com.viaversion.viaversion.api.data.ParticleMappings;
@@ -35,7 +36,6 @@ import com.viaversion.viaversion.api.type.types.version.Types1_18;
 import com.viaversion.viaversion.api.type.types.version.Types1_19;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.CompoundTag;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.ListTag;
-import com.viaversion.viaversion.libs.opennbt.tag.builtin.NumberTag;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.StringTag;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.Tag;
 import com.viaversion.viaversion.protocols.protocol1_18to1_17_1.ClientboundPackets1_18;
@@ -125,10 +125,7 @@ public final class EntityPackets1_19 extends EntityRewriter<Protocol1_18_2To1_19
                 map(Type.STRING_ARRAY); // Worlds
                 map(Type.NBT); // Dimension registry
                 handler(wrapper -> {
-                    final DimensionRegistryStorage dimensionRegistryStorage = wrapper.user().get(DimensionRegistryStorage.class);
-                    dimensionRegistryStorage.clear();
-
-                    // Cache dimensions and find current dimension
+                    // Find current dimension
                     final String dimensionKey = wrapper.read(Type.STRING);
                     final CompoundTag registry = wrapper.get(Type.NBT, 0);
                     final ListTag dimensions = ((CompoundTag) registry.get("minecraft:dimension_type")).get("value");
@@ -136,18 +133,20 @@ public final class EntityPackets1_19 extends EntityRewriter<Protocol1_18_2To1_19
                     for (final Tag dimension : dimensions) {
                         final CompoundTag dimensionCompound = (CompoundTag) dimension;
                         final StringTag nameTag = dimensionCompound.get("name");
-                        final CompoundTag dimensionData = dimensionCompound.get("element");
-                        dimensionRegistryStorage.addDimension(nameTag.getValue(), dimensionData.clone());
-
-                        if (!found && nameTag.getValue().equals(dimensionKey)) {
-                            wrapper.write(Type.NBT, dimensionData);
+                        if (nameTag.getValue().equals(dimensionKey)) {
+                            wrapper.write(Type.NBT, dimensionCompound.get("element"));
                             found = true;
+                            break;
                         }
                     }
                     if (!found) {
                         throw new IllegalStateException("Could not find dimension " + dimensionKey + " in dimension registry");
                     }
 
+                    // Cache dimensions and chat types in a registry shared with other connections, then remove chat types
+                    final ListTag chatTypes = ((CompoundTag) registry.remove("minecraft:chat_type")).get("value");
+                    wrapper.user().get(DimensionRegistryStorage.class).setRegistry(SharedRegistry.intern(dimensions, chatTypes));
+
                     // Add biome category and track biomes
                     final CompoundTag biomeRegistry = registry.get("minecraft:worldgen/biome");
                     final ListTag biomes = biomeRegistry.get("value");
@@ -156,14 +155,6 @@ public final class EntityPackets1_19 extends EntityRewriter<Protocol1_18_2To1_19
                         biomeCompound.put("category", new StringTag("none"));
                     }
                     tracker(wrapper.user()).setBiomesSent(biomes.size());
-
-                    // Cache and remove chat types
-                    final ListTag chatTypes = ((CompoundTag) registry.remove("minecraft:chat_type")).get("value");
-                    for (final Tag chatType : chatTypes) {
-                        final CompoundTag chatTypeCompound = (CompoundTag) chatType;
-                        final NumberTag idTag = chatTypeCompound.get("id");
-                        dimensionRegistryStorage.addChatType(idTag.asInt(), chatTypeCompound);
-                    }
                 });
                 map(Type.STRING); // World
                 map(Type.LONG); // Seed
@@ -18,40 +18,30 @@
 package com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.storage;
 
 import com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.Protocol1_18_2To1_19;
+import com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.data.SharedRegistry;
 import com.viaversion.viaversion.api.connection.StorableObject;
-import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectMap;
-import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectOpenHashMap;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.CompoundTag;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
-
 public final class DimensionRegistryStorage implements StorableObject {
 
-    private final Map<String, CompoundTag> dimensions = new HashMap<>();
-    private final Int2ObjectMap<CompoundTag> chatTypes = new Int2ObjectOpenHashMap<>();
+    private SharedRegistry registry;
 
     public @Nullable CompoundTag dimension(final String dimensionKey) {
-        final CompoundTag compoundTag = dimensions.get(dimensionKey);
+        final CompoundTag compoundTag = registry != null ? registry.dimension(dimensionKey) : null;
         return compoundTag != null ? compoundTag.clone() : null;
     }
 
-    public void addDimension(final String dimensionKey, final CompoundTag dimension) {
-        dimensions.put(dimensionKey, dimension);
-    }
-
     public @Nullable CompoundTag chatType(final int id) {
-        return chatTypes.isEmpty() ? Protocol1_18_2To1_19.MAPPINGS.chatType(id) : chatTypes.get(id);
+        return registry == null || !registry.hasChatTypes() ? Protocol1_18_2To1_19.MAPPINGS.chatType(id) : registry.chatType(id);
     }
 
-    public void addChatType(final int id, final CompoundTag chatType) {
-        chatTypes.put(id, chatType);
+    public void setRegistry(final SharedRegistry registry) {
+        this.registry = registry;
     }
 
     public void clear() {
-        dimensions.clear();
-        chatTypes.clear();
+        registry = null;
     }
 
     @Override
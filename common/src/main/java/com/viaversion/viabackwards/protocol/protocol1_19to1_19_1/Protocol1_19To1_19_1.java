@@ -18,6 +18,8 @@
 package com.viaversion.viabackwards.protocol.protocol1_19to1_19_1;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.BackwardsProtocol;
 import com.viaversion.viabackwards.api.rewriters.TranslatableRewriter;
@@ -60,7 +62,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 public final class Protocol1_19To1_19_1 extends BackwardsProtocol<ClientboundPackets1_19_1, ClientboundPackets1_19, ServerboundPackets1_19_1, ServerboundPackets1_19> {
 
@@ -70,6 +74,11 @@ public final class Protocol1_19To1_19_1 extends BackwardsProtocol<ClientboundPac
     private static final byte[] EMPTY_BYTES = new byte[0];
     private final EntityPackets1_19_1 entityRewriter = new EntityPackets1_19_1(this);
     private final TranslatableRewriter translatableRewriter = new TranslatableRewriter(this);
+    // Broadcast messages arrive with the same content for every player, so only decorate them once
+    private final Cache<DecorationKey, JsonElement> decorationCache = CacheBuilder.newBuilder()
+            .maximumSize(256)
+            .expireAfterWrite(5, TimeUnit.SECONDS)
+            .build();
 
     public Protocol1_19To1_19_1() {
         super(ClientboundPackets1_19_1.class, ClientboundPackets1_19.class, ServerboundPackets1_19_1.class, ServerboundPackets1_19.class);
@@ -77,6 +86,8 @@ public final class Protocol1_19To1_19_1 extends BackwardsProtocol<ClientboundPac
 
     @Override
     protected void registerPackets() {
+        executeAsync(TranslatableRewriter::loadTranslatables);
+
         translatableRewriter.registerComponentPacket(ClientboundPackets1_19_1.ACTIONBAR);
         translatableRewriter.registerComponentPacket(ClientboundPackets1_19_1.TITLE_TEXT);
         translatableRewriter.registerComponentPacket(ClientboundPackets1_19_1.TITLE_SUBTITLE);
@@ -175,13 +186,19 @@ public final class Protocol1_19To1_19_1 extends BackwardsProtocol<ClientboundPac
                     final int chatTypeId = wrapper.read(Type.VAR_INT);
                     final JsonElement senderName = wrapper.read(Type.COMPONENT);
                     final JsonElement targetName = wrapper.read(Type.OPTIONAL_COMPONENT);
-                    decoratedMessage = decorateChatMessage(wrapper, chatTypeId, senderName, targetName, message);
+                    final CompoundTag chatType = wrapper.user().get(ChatRegistryStorage.class).chatType(chatTypeId);
+                    if (chatType == null) {
+                        ViaBackwards.getPlatform().getLogger().warning("Chat message has unknown chat type id " + chatTypeId + ". Message: " + message);
+                        wrapper.cancel();
+                        return;
+                    }
+
+                    decoratedMessage = decorateChatMessageCached(chatType, senderName, targetName, message);
                     if (decoratedMessage == null) {
                         wrapper.cancel();
                         return;
                     }
 
-                    translatableRewriter.processText(decoratedMessage);
                     wrapper.write(Type.COMPONENT, decoratedMessage);
                     wrapper.write(Type.VAR_INT, SYSTEM_CHAT_ID);
                 });
@@ -351,6 +368,7 @@ public final class Protocol1_19To1_19_1 extends BackwardsProtocol<ClientboundPac
 
     @Override
     public void init(final UserConnection user) {
+        super.init(user);
         user.put(new ChatRegistryStorage());
         user.put(new ReceivedMessagesStorage());
         addEntityTracker(user, new EntityTrackerBase(user, Entity1_19Types.PLAYER, true));
@@ -366,13 +384,27 @@ public final class Protocol1_19To1_19_1 extends BackwardsProtocol<ClientboundPac
         return entityRewriter;
     }
 
-    private @Nullable JsonElement decorateChatMessage(final PacketWrapper wrapper, final int chatTypeId, final JsonElement senderName, @Nullable final JsonElement targetName, final JsonElement message) {
-        CompoundTag chatType = wrapper.user().get(ChatRegistryStorage.class).chatType(chatTypeId);
-        if (chatType == null) {
-            ViaBackwards.getPlatform().getLogger().warning("Chat message has unknown chat type id " + chatTypeId + ". Message: " + message);
-            return null;
+    /**
+     * Returns a copy of the decorated and translated message, only decorating it if not done for the same input before.
+     */
+    private @Nullable JsonElement decorateChatMessageCached(final CompoundTag chatType, final JsonElement senderName, @Nullable final JsonElement targetName, final JsonElement message) {
+        final DecorationKey key = new DecorationKey(chatType, senderName, targetName, message);
+        JsonElement decoratedMessage = decorationCache.getIfPresent(key);
+        if (decoratedMessage == null) {
+            decoratedMessage = decorateChatMessage(chatType, senderName, targetName, message);
+            if (decoratedMessage == null) {
+                return null;
+            }
+
+            translatableRewriter.processText(decoratedMessage);
+            decorationCache.put(key, decoratedMessage);
         }
 
+        // Handlers further down the pipeline may modify the component
+        return decoratedMessage.deepCopy();
+    }
+
+    private @Nullable JsonElement decorateChatMessage(CompoundTag chatType, final JsonElement senderName, @Nullable final JsonElement targetName, final JsonElement message) {
         chatType = chatType.<CompoundTag>get("element").get("chat");
         if (chatType == null) {
             return null;
@@ -430,4 +462,34 @@ public final class Protocol1_19To1_19_1 extends BackwardsProtocol<ClientboundPac
 
         return GsonComponentSerializer.gson().serializeToTree(componentBuilder.build());
     }
+
+    private static final class DecorationKey {
+        private final CompoundTag chatType;
+        private final JsonElement senderName;
+        private final JsonElement targetName;
+        private final JsonElement message;
+        private final int hashCode;
+
+        private DecorationKey(final CompoundTag chatType, final JsonElement senderName, @Nullable final JsonElement targetName, final JsonElement message) {
+            this.chatType = chatType;
+            this.senderName = senderName;
+            this.targetName = targetName;
+            this.message = message;
+            this.hashCode = Objects.hash(chatType, senderName, targetName, message);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final DecorationKey that = (DecorationKey) o;
+            return hashCode == that.hashCode && message.equals(that.message) && senderName.equals(that.senderName)
+                    && Objects.equals(targetName, that.targetName) && chatType.equals(that.chatType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
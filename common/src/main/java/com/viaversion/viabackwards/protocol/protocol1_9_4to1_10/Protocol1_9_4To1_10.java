@@ -52,6 +52,10 @@ public class Protocol1_9_4To1_10 extends BackwardsProtocol<ClientboundPackets1_9
     protected void registerPackets() {
         entityPackets.register();
         blockItemPackets.register();
+        executeAsync(() -> {
+            MAPPINGS.load();
+            blockItemPackets.loadReplacementData();
+        });
 
         SoundRewriter soundRewriter = new SoundRewriter(this);
         registerClientbound(ClientboundPackets1_9_3.NAMED_SOUND, new PacketRemapper() {
@@ -91,6 +95,8 @@ public class Protocol1_9_4To1_10 extends BackwardsProtocol<ClientboundPackets1_9
     }
 
     public void init(UserConnection user) {
+        super.init(user);
+
         // Register ClientWorld
         if (!user.has(ClientWorld.class)) {
             user.put(new ClientWorld(user));
@@ -113,9 +119,4 @@ public class Protocol1_9_4To1_10 extends BackwardsProtocol<ClientboundPackets1_9
     public BlockItemPackets1_10 getItemRewriter() {
         return blockItemPackets;
     }
-
-    @Override
-    public boolean hasMappingDataToLoad() {
-        return true;
-    }
 }
@@ -0,0 +1,97 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2022 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.utils;
+
+import com.viaversion.viaversion.api.minecraft.chunks.DataPalette;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Finds blocks in chunk sections by checking the palette first, only scanning the blocks of a section
+ * if its palette contains a matching state.
+ */
+public final class ChunkSectionScanner {
+
+    public static final int SECTION_SIZE = 16 * 16 * 16;
+
+    private ChunkSectionScanner() {
+    }
+
+    /**
+     * Calls the consumer for every block of the section matching the predicate, in y, z, x order.
+     * The predicate is only tested once per palette entry, the blocks are only scanned if the palette has a match.
+     *
+     * @param palette   block palette of a chunk section
+     * @param predicate state predicate
+     * @param consumer  consumer of matching blocks
+     * @return true if any block matched
+     */
+    public static boolean forEachMatching(DataPalette palette, IntPredicate predicate, BlockConsumer consumer) throws Exception {
+        final boolean[] matches = matchingPaletteIndices(palette, predicate);
+        if (matches == null) {
+            return false;
+        }
+
+        boolean matched = false;
+        for (int index = 0; index < SECTION_SIZE; index++) {
+            final int paletteIndex = palette.paletteIndexAt(index);
+            if (matches[paletteIndex]) {
+                consumer.accept(index & 0xF, index >> 8, (index >> 4) & 0xF, palette.idByIndex(paletteIndex));
+                matched = true;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Returns which palette indices hold a state matching the predicate, to be checked against
+     * {@link DataPalette#paletteIndexAt(int)} in loops over all blocks.
+     *
+     * @param palette   block palette of a chunk section
+     * @param predicate state predicate
+     * @return matching palette indices, or null if no palette entry matches
+     */
+    public static boolean @Nullable [] matchingPaletteIndices(DataPalette palette, IntPredicate predicate) {
+        final int paletteSize = palette.size();
+        boolean[] matches = null;
+        for (int i = 0; i < paletteSize; i++) {
+            if (predicate.test(palette.idByIndex(i))) {
+                if (matches == null) {
+                    matches = new boolean[paletteSize];
+                }
+                matches[i] = true;
+            }
+        }
+        return matches;
+    }
+
+    @FunctionalInterface
+    public interface BlockConsumer {
+
+        /**
+         * Called for a matching block.
+         *
+         * @param x     section relative x
+         * @param y     section relative y
+         * @param z     section relative z
+         * @param state block state
+         */
+        void accept(int x, int y, int z, int state) throws Exception;
+    }
+}
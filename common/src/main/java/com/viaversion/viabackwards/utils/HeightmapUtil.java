@@ -0,0 +1,117 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2022 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.utils;
+
+/**
+ * Converts heightmaps between the compact long array layouts of different versions without unpacking them into an int array.
+ * <p>
+ * In padded arrays (1.16+) values never span two longs, unused high bits of each long are left empty.
+ * In unpadded arrays (1.15 and below) values are stored back to back and may span two longs.
+ */
+public final class HeightmapUtil {
+
+    public static final int HEIGHTMAP_SIZE = 16 * 16;
+
+    private HeightmapUtil() {
+    }
+
+    /**
+     * Repacks a padded heightmap into a padded heightmap with a different number of bits per entry,
+     * offsetting every value and clamping it into the given range.
+     * The given array is reused if the bits per entry do not change.
+     *
+     * @param data     padded heightmap data
+     * @param fromBits bits per entry of the given data
+     * @param toBits   bits per entry of the returned data
+     * @param offset   value to add to every entry
+     * @param min      minimum entry value after adding the offset
+     * @param max      maximum entry value after adding the offset, has to fit into toBits
+     * @return padded heightmap data with toBits per entry
+     */
+    public static long[] repackPadded(long[] data, int fromBits, int toBits, int offset, int min, int max) {
+        final int fromPerLong = 64 / fromBits;
+        final int toPerLong = 64 / toBits;
+        final long fromMask = (1L << fromBits) - 1;
+        final int length = (HEIGHTMAP_SIZE + toPerLong - 1) / toPerLong;
+        // Entries are only written after all entries of the same long have been read
+        final long[] result = fromBits == toBits && data.length == length ? data : new long[length];
+
+        int fromIndex = 0;
+        int fromShift = 0;
+        int toIndex = 0;
+        int toShift = 0;
+        long current = 0;
+        for (int i = 0; i < HEIGHTMAP_SIZE; i++) {
+            int value = (int) ((data[fromIndex] >>> fromShift) & fromMask) + offset;
+            if (value < min) {
+                value = min;
+            } else if (value > max) {
+                value = max;
+            }
+
+            if ((fromShift += fromBits) + fromBits > 64) {
+                fromIndex++;
+                fromShift = 0;
+            }
+
+            current |= (long) value << toShift;
+            if ((toShift += toBits) + toBits > 64) {
+                result[toIndex++] = current;
+                current = 0;
+                toShift = 0;
+            }
+        }
+
+        if (toShift != 0) {
+            result[toIndex] = current;
+        }
+        return result;
+    }
+
+    /**
+     * Repacks a padded heightmap into an unpadded one with the same number of bits per entry.
+     *
+     * @param data padded heightmap data
+     * @param bits bits per entry
+     * @return unpadded heightmap data
+     */
+    public static long[] unpad(long[] data, int bits) {
+        final long mask = (1L << bits) - 1;
+        final long[] result = new long[(HEIGHTMAP_SIZE * bits + 63) >> 6];
+
+        int fromIndex = 0;
+        int fromShift = 0;
+        int bitIndex = 0;
+        for (int i = 0; i < HEIGHTMAP_SIZE; i++) {
+            final long value = (data[fromIndex] >>> fromShift) & mask;
+            if ((fromShift += bits) + bits > 64) {
+                fromIndex++;
+                fromShift = 0;
+            }
+
+            final int toIndex = bitIndex >> 6;
+            final int toShift = bitIndex & 63;
+            result[toIndex] |= value << toShift;
+            if (toShift + bits > 64) {
+                result[toIndex + 1] |= value >>> (64 - toShift);
+            }
+            bitIndex += bits;
+        }
+        return result;
+    }
+}